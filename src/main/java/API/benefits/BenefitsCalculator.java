@@ -0,0 +1,47 @@
+package API.benefits;
+
+import API.responses.employees.EmployeeResponse;
+
+/**
+ * Expected pay figures for an employee: salary (52000 when not set) is paid over 26 paychecks,
+ * benefits cost 1000/yr plus 500/yr per dependant, net is gross minus benefits.
+ * Figures are per paycheck and unrounded, like the API's.
+ */
+public final class BenefitsCalculator {
+
+    public static final int PAYCHECKS_PER_YEAR = 26;
+    public static final int DEFAULT_SALARY = 52000;
+    public static final int ANNUAL_BENEFITS_BASE = 1000;
+    public static final int ANNUAL_BENEFITS_PER_DEPENDANT = 500;
+
+    /**
+     * Largest difference still treated as equal: anything that rounds to the same cent.
+     */
+    public static final double TOLERANCE = 0.005;
+
+    public record Paycheck(double gross, double benefitsCost, double net) {
+    }
+
+    private BenefitsCalculator() {
+    }
+
+    public static Paycheck expected(int salary, int dependants) {
+        double gross = (double) salary / PAYCHECKS_PER_YEAR;
+        double benefitsCost = annualBenefits(dependants) / PAYCHECKS_PER_YEAR;
+        return new Paycheck(gross, benefitsCost, gross - benefitsCost);
+    }
+
+    public static Paycheck expected(EmployeeResponse employee) {
+        return expected(
+                employee.getSalary() != null ? employee.getSalary() : DEFAULT_SALARY,
+                employee.getDependants() != null ? employee.getDependants() : 0);
+    }
+
+    public static double annualBenefits(int dependants) {
+        return ANNUAL_BENEFITS_BASE + (double) ANNUAL_BENEFITS_PER_DEPENDANT * dependants;
+    }
+
+    public static boolean matches(double expected, Double actual) {
+        return actual != null && Math.abs(expected - actual) <= TOLERANCE;
+    }
+}
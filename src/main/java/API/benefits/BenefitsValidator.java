@@ -0,0 +1,100 @@
+package API.benefits;
+
+import API.benefits.BenefitsCalculator.Paycheck;
+import API.responses.employees.EmployeeBatch;
+import API.responses.employees.EmployeeResponse;
+import API.services.EmployeeService;
+import Common.LogHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks gross, benefitsCost and net of every employee against {@link BenefitsCalculator}.
+ * Records are checked on the common fork-join pool and only mismatching ones allocate, so a
+ * 100k-row list validates in milliseconds once fetched.
+ */
+public final class BenefitsValidator {
+
+    private static final int LOGGED_MISMATCHES = 20;
+
+    public record Mismatch(String id, String field, double expected, Double actual) {
+    }
+
+    public record Report(int checked, List<Mismatch> mismatches, long elapsedMicros) {
+        public boolean isValid() {
+            return mismatches.isEmpty();
+        }
+    }
+
+    private BenefitsValidator() {
+    }
+
+    /**
+     * Validates everything returned by {@link EmployeeService#getAll()}.
+     */
+    public static Report validateAll() {
+        return validate(EmployeeService.getAll());
+    }
+
+    public static Report validate(List<EmployeeResponse> employees) {
+        long start = System.nanoTime();
+        List<Mismatch> mismatches = employees.parallelStream()
+                .filter(e -> !isValid(e))
+                .flatMap(e -> check(e).stream())
+                .toList();
+        return report(employees.size(), mismatches, start);
+    }
+
+    /**
+     * Same checks over a columnar batch; only mismatching rows are materialized.
+     */
+    public static Report validate(EmployeeBatch batch) {
+        long start = System.nanoTime();
+        List<Mismatch> mismatches = batch.indices().parallel()
+                .filter(i -> !isValid(batch, i))
+                .mapToObj(i -> check(batch.toResponse(i)))
+                .flatMap(List::stream)
+                .toList();
+        return report(batch.size(), mismatches, start);
+    }
+
+    private static Report report(int checked, List<Mismatch> mismatches, long startNanos) {
+        Report report = new Report(checked, mismatches, (System.nanoTime() - startNanos) / 1_000);
+        LogHelper.info("Benefits validation: checked=" + report.checked()
+                + " mismatches=" + mismatches.size() + " us=" + report.elapsedMicros());
+        mismatches.stream().limit(LOGGED_MISMATCHES).forEach(m -> LogHelper.warn("Benefits mismatch: " + m));
+        return report;
+    }
+
+    private static boolean isValid(EmployeeBatch batch, int i) {
+        int salary = batch.salary(i) == EmployeeBatch.MISSING_INT ? BenefitsCalculator.DEFAULT_SALARY : batch.salary(i);
+        int dependants = batch.dependants(i) == EmployeeBatch.MISSING_INT ? 0 : batch.dependants(i);
+        Paycheck expected = BenefitsCalculator.expected(salary, dependants);
+        return Math.abs(expected.gross() - batch.gross(i)) <= BenefitsCalculator.TOLERANCE
+                && Math.abs(expected.benefitsCost() - batch.benefitsCost(i)) <= BenefitsCalculator.TOLERANCE
+                && Math.abs(expected.net() - batch.net(i)) <= BenefitsCalculator.TOLERANCE;
+    }
+
+    public static boolean isValid(EmployeeResponse employee) {
+        Paycheck expected = BenefitsCalculator.expected(employee);
+        return BenefitsCalculator.matches(expected.gross(), employee.getGross())
+                && BenefitsCalculator.matches(expected.benefitsCost(), employee.getBenefitsCost())
+                && BenefitsCalculator.matches(expected.net(), employee.getNet());
+    }
+
+    public static List<Mismatch> check(EmployeeResponse employee) {
+        Paycheck expected = BenefitsCalculator.expected(employee);
+        List<Mismatch> mismatches = new ArrayList<>(3);
+        if (!BenefitsCalculator.matches(expected.gross(), employee.getGross())) {
+            mismatches.add(new Mismatch(employee.getId(), "gross", expected.gross(), employee.getGross()));
+        }
+        if (!BenefitsCalculator.matches(expected.benefitsCost(), employee.getBenefitsCost())) {
+            mismatches.add(new Mismatch(employee.getId(), "benefitsCost", expected.benefitsCost(), employee.getBenefitsCost()));
+        }
+        if (!BenefitsCalculator.matches(expected.net(), employee.getNet())) {
+            mismatches.add(new Mismatch(employee.getId(), "net", expected.net(), employee.getNet()));
+        }
+        return mismatches;
+    }
+}
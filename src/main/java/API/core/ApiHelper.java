@@ -1,19 +1,63 @@
 package API.core;
 
+import API.stub.EmployeeApiStub;
 import Common.LogHelper;
 import UI.core.ConfigManager;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.protocol.HttpCoreContext;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public final class ApiHelper {
 
     private static final String base = resolveBase();
+    private static final String authCode = ConfigManager.getProperty("AUTH_CODE");
+
+    private static final HttpClient HTTP_CLIENT = createClient();
+    private static final RestAssuredConfig CONFIG = createConfig();
+
+    private static final RetryPolicy RETRY = RetryPolicy.fromConfig();
+    private static final CircuitBreaker BREAKER = new CircuitBreaker("api",
+            ConfigManager.getInt("API_BREAKER_FAILURE_THRESHOLD", 5),
+            ConfigManager.getInt("API_BREAKER_OPEN_SECONDS", 30) * 1000L);
+
+    private static final RequestSpecification AUTH_JSON_SPEC = specBuilder(true).setContentType(ContentType.JSON).build();
+    private static final RequestSpecification NO_AUTH_JSON_SPEC = specBuilder(false).setContentType(ContentType.JSON).build();
+    private static final RequestSpecification AUTH_NO_CONTENT_TYPE_SPEC = specBuilder(true).build();
+    private static final RequestSpecification NO_AUTH_NO_CONTENT_TYPE_SPEC = specBuilder(false).build();
+
+    // Request body size of the current thread's last call, captured where HttpClient sends it
+    private static final ThreadLocal<long[]> BYTES_SENT = ThreadLocal.withInitial(() -> new long[1]);
+    // Socket timeout cap in ms for the current thread's attempt (0 = none), so a read never outlives the call deadline
+    private static final ThreadLocal<int[]> SOCKET_TIMEOUT_CAP = ThreadLocal.withInitial(() -> new int[1]);
 
     private ApiHelper() {}
 
     private static String resolveBase() {
+        if (ConfigManager.useApiStub()) {
+            String stubBase = EmployeeApiStub.shared().baseUrl();
+            LogHelper.info("API_STUB enabled, using in-process API: " + stubBase);
+            return stubBase;
+        }
         String apiBase = ConfigManager.getProperty("API_BASE_URL");
         if (apiBase != null && !apiBase.isBlank()) {
             LogHelper.info("API_BASE_URL detected: " + apiBase);
@@ -26,25 +70,198 @@ public final class ApiHelper {
         return derived.replaceAll("/+$", "");
     }
 
+    /**
+     * One keep-alive connection pool shared by every request and thread, so TLS sessions are
+     * reused across calls. Idle and expired connections are evicted by a daemon thread.
+     */
+    // Rest Assured's HttpClientConfig requires an HttpClient 4 AbstractHttpClient and its params API
+    @SuppressWarnings("deprecation")
+    private static PoolingClientConnectionManager createPool() {
+        PoolingClientConnectionManager pool = new PoolingClientConnectionManager();
+        pool.setMaxTotal(ConfigManager.getInt("API_POOL_MAX_TOTAL", 50));
+        pool.setDefaultMaxPerRoute(ConfigManager.getInt("API_POOL_MAX_PER_ROUTE", 50));
+
+        int idleSeconds = ConfigManager.getInt("API_POOL_IDLE_EVICT_SECONDS", 30);
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "api-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            pool.closeExpiredConnections();
+            pool.closeIdleConnections(idleSeconds, TimeUnit.SECONDS);
+        }, idleSeconds, idleSeconds, TimeUnit.SECONDS);
+        return pool;
+    }
+
+    // Rest Assured's HttpClientConfig requires an HttpClient 4 AbstractHttpClient and its params API
+    @SuppressWarnings("deprecation")
+    private static HttpClient createClient() {
+        DefaultHttpClient client = new DefaultHttpClient(createPool());
+        client.addRequestInterceptor((request, context) -> {
+            if (request instanceof HttpEntityEnclosingRequest r && r.getEntity() != null) {
+                BYTES_SENT.get()[0] = Math.max(0, r.getEntity().getContentLength());
+            }
+        });
+        // Runs after HttpClient applied API_SOCKET_TIMEOUT_MS to the leased connection, which it does on every lease
+        client.addRequestInterceptor((request, context) -> {
+            int cap = SOCKET_TIMEOUT_CAP.get()[0];
+            if (cap > 0 && context.getAttribute(HttpCoreContext.HTTP_CONNECTION) instanceof HttpConnection connection) {
+                int timeout = connection.getSocketTimeout();
+                if (timeout == 0 || timeout > cap) connection.setSocketTimeout(cap);
+            }
+        });
+        // Rest Assured never reads empty bodies, which would leave their connections leased forever.
+        // Swapping in a non-streaming entity makes HttpClient hand the connection back to the pool.
+        client.addResponseInterceptor((response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.getContentLength() == 0) {
+                ByteArrayEntity empty = new ByteArrayEntity(new byte[0]);
+                empty.setContentType(entity.getContentType());
+                response.setEntity(empty);
+            }
+        });
+        return client;
+    }
+
+    /**
+     * Bounds a single attempt: a hung connect, lease or read fails instead of stalling the suite.
+     */
+    // Rest Assured's HttpClientConfig only accepts the HttpClient 4 params API
+    @SuppressWarnings("deprecation")
+    private static RestAssuredConfig createConfig() {
+        return RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, ConfigManager.getInt("API_CONNECT_TIMEOUT_MS", 5000))
+                        .setParam(CoreConnectionPNames.SO_TIMEOUT, ConfigManager.getInt("API_SOCKET_TIMEOUT_MS", 15000))
+                        .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) ConfigManager.getInt("API_POOL_LEASE_TIMEOUT_MS", 10000))
+                        .reuseHttpClientInstance()
+                        .httpClientFactory(() -> HTTP_CLIENT));
+    }
+
+    private static RequestSpecBuilder specBuilder(boolean withAuth) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(CONFIG)
+                .setBaseUri(base)
+                .setRelaxedHTTPSValidation()
+                .setAccept(ContentType.JSON);
+        if (withAuth && authCode != null) {
+            builder.addHeader("Authorization", authCode);
+        }
+        return builder;
+    }
+
     private static RequestSpecification baseSpec() {
-        return RestAssured.given()
-                .baseUri(base)
-                .relaxedHTTPSValidation()
-                .header("Authorization", ConfigManager.getProperty("AUTH_CODE"))
-                .accept(ContentType.JSON)
-                .contentType(ContentType.JSON);
+        return RestAssured.given().spec(AUTH_JSON_SPEC);
     }
 
     private static RequestSpecification baseSpec(boolean withAuth) {
-        RequestSpecification spec = RestAssured.given()
-                .baseUri(base)
-                .relaxedHTTPSValidation()
-                .accept(ContentType.JSON)
-                .contentType(ContentType.JSON);
-        if (withAuth) {
-            spec.header("Authorization", ConfigManager.getProperty("AUTH_CODE"));
+        return RestAssured.given().spec(withAuth ? AUTH_JSON_SPEC : NO_AUTH_JSON_SPEC);
+    }
+
+    public static CircuitBreaker circuitBreaker() {
+        return BREAKER;
+    }
+
+    /**
+     * Executes the call through the circuit breaker, retrying idempotent methods per
+     * {@link RetryPolicy}, then buffers the body and records every attempt in {@link ApiMetrics}.
+     * No attempt starts after API_CALL_DEADLINE_MS, and each one's socket timeout is capped to the
+     * time left. With {@code stream} the body of the final response is left unread.
+     */
+    private static Response send(String method, String ep, boolean stream, Supplier<Response> call) {
+        boolean retryable = RETRY.isRetryable(method);
+        long deadline = System.currentTimeMillis() + RETRY.deadlineMillis();
+        for (int attempt = 1; ; attempt++) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new IllegalStateException(method + " " + ep + " gave up after " + (attempt - 1)
+                        + " attempts: API_CALL_DEADLINE_MS of " + RETRY.deadlineMillis() + " ms exceeded");
+            }
+            BREAKER.acquire();
+            Response resp;
+            int status;
+            boolean reported = false;
+            try {
+                resp = attempt(method, ep, stream, call, remaining);
+                status = resp.statusCode();
+                if (status == 502 || status == 503 || status == 504) BREAKER.onFailure();
+                else BREAKER.onSuccess();
+                reported = true;
+            } catch (Exception e) {
+                // Rest Assured (Groovy) throws I/O failures such as timeouts and refused
+                // connections as undeclared checked exceptions, so catch Exception here
+                if (!(e instanceof IOException) && !(e.getCause() instanceof IOException)) throw e;
+                BREAKER.onFailure();
+                reported = true;
+                long delay = RETRY.backoffMillis(attempt);
+                if (!retryable || attempt >= RETRY.maxAttempts() || System.currentTimeMillis() + delay > deadline) throw e;
+                LogHelper.warn(method + " " + ep + " failed (" + e + "), retry " + attempt + " in " + delay + " ms");
+                sleep(delay);
+                continue;
+            } finally {
+                // Any other exception still reports back, or a half-open trial slot would stay taken
+                if (!reported) BREAKER.onFailure();
+            }
+
+            if (retryable && RetryPolicy.isRetryableStatus(status) && attempt < RETRY.maxAttempts()) {
+                long delay = Math.max(RETRY.backoffMillis(attempt), RetryPolicy.retryAfterMillis(resp));
+                if (System.currentTimeMillis() + delay <= deadline) {
+                    LogHelper.warn(method + " " + ep + " returned " + status + ", retry " + attempt + " in " + delay + " ms");
+                    if (stream) resp.asByteArray();
+                    sleep(delay);
+                    continue;
+                }
+            }
+
+            LogHelper.info("Status: " + status);
+            if (!stream) {
+                LogHelper.prettyJson(resp::asString);
+            }
+            return resp;
+        }
+    }
+
+    private static Response attempt(String method, String ep, boolean stream, Supplier<Response> call,
+                                    long remainingMillis) {
+        long[] sent = BYTES_SENT.get();
+        sent[0] = 0;
+        int[] socketTimeoutCap = SOCKET_TIMEOUT_CAP.get();
+        socketTimeoutCap[0] = (int) Math.min(Integer.MAX_VALUE, remainingMillis);
+        long start = System.nanoTime();
+        Response resp;
+        long received;
+        try {
+            resp = call.get();
+            // Rest Assured reads bodies lazily; read it here so the pooled connection is released
+            // even when the body is neither logged nor mapped by the caller.
+            received = stream ? contentLength(resp) : resp.asByteArray().length;
+        } catch (Exception e) {
+            ApiMetrics.record(method, ep, -1, System.nanoTime() - start, sent[0], 0);
+            throw e;
+        } finally {
+            socketTimeoutCap[0] = 0;
+        }
+        ApiMetrics.record(method, ep, resp.statusCode(), System.nanoTime() - start, sent[0], received);
+        return resp;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+
+    private static long contentLength(Response resp) {
+        String length = resp.getHeader("Content-Length");
+        try {
+            return length == null ? 0 : Long.parseLong(length.trim());
+        } catch (NumberFormatException e) {
+            return 0;
         }
-        return spec;
     }
 
     private static String norm(String endpoint) {
@@ -55,28 +272,29 @@ public final class ApiHelper {
     public static Response get(String endpoint) {
         String ep = norm(endpoint);
         LogHelper.info("GET " + base + ep);
-        Response resp = baseSpec().get(ep);
-        LogHelper.info("Status: " + resp.statusCode());
-        LogHelper.prettyJson(resp.asString());
-        return resp;
+        return send("GET", ep, false, () -> baseSpec().get(ep));
+    }
+
+    /**
+     * GET without buffering or logging the body, for callers that read large responses
+     * incrementally via {@link Response#asInputStream()} and close the stream when done.
+     */
+    public static Response getStreaming(String endpoint) {
+        String ep = norm(endpoint);
+        LogHelper.info("GET (streaming) " + base + ep);
+        return send("GET", ep, true, () -> baseSpec().get(ep));
     }
 
     public static Response getNoAuth(String endpoint) {
         String ep = norm(endpoint);
         LogHelper.info("GET (no auth) " + base + ep);
-        Response resp = baseSpec(false).get(ep);
-        LogHelper.info("Status: " + resp.statusCode());
-        LogHelper.prettyJson(resp.asString());
-        return resp;
+        return send("GET", ep, false, () -> baseSpec(false).get(ep));
     }
 
     public static Response delete(String endpoint) {
         String ep = norm(endpoint);
         LogHelper.info("DELETE " + base + ep);
-        Response resp = baseSpec().delete(ep);
-        LogHelper.info("Status: " + resp.statusCode());
-        LogHelper.prettyJson(resp.asString());
-        return resp;
+        return send("DELETE", ep, false, () -> baseSpec().delete(ep));
     }
 
     public static Response post(String endpoint, Object body) {
@@ -84,10 +302,7 @@ public final class ApiHelper {
         LogHelper.info("POST " + base + ep);
         LogHelper.info("Request body:");
         LogHelper.pretty(body);
-        Response resp = baseSpec().body(body).post(ep);
-        LogHelper.info("Status: " + resp.statusCode());
-        LogHelper.prettyJson(resp.asString());
-        return resp;
+        return send("POST", ep, false, () -> baseSpec().body(body).post(ep));
     }
 
     public static Response put(String endpoint, Object body) {
@@ -95,10 +310,7 @@ public final class ApiHelper {
         LogHelper.info("PUT " + base + ep);
         LogHelper.info("Request body:");
         LogHelper.pretty(body);
-        Response resp = baseSpec().body(body).put(ep);
-        LogHelper.info("Status: " + resp.statusCode());
-        LogHelper.prettyJson(resp.asString());
-        return resp;
+        return send("PUT", ep, false, () -> baseSpec().body(body).put(ep));
     }
 
     public static Response patch(String endpoint, Object body) {
@@ -106,21 +318,11 @@ public final class ApiHelper {
         LogHelper.info("PATCH " + base + ep);
         LogHelper.info("Request body:");
         LogHelper.pretty(body);
-        Response resp = baseSpec().body(body).patch(ep);
-        LogHelper.info("Status: " + resp.statusCode());
-        LogHelper.prettyJson(resp.asString());
-        return resp;
+        return send("PATCH", ep, false, () -> baseSpec().body(body).patch(ep));
     }
 
     private static RequestSpecification baseSpecNoContentType(boolean withAuth) {
-        RequestSpecification spec = RestAssured.given()
-                .baseUri(base)
-                .relaxedHTTPSValidation()
-                .accept(ContentType.JSON);
-        if (withAuth) {
-            spec.header("Authorization", ConfigManager.getProperty("AUTH_CODE"));
-        }
-        return spec;
+        return RestAssured.given().spec(withAuth ? AUTH_NO_CONTENT_TYPE_SPEC : NO_AUTH_NO_CONTENT_TYPE_SPEC);
     }
 
     public static Response postNoContentType(String endpoint, Object body) {
@@ -128,10 +330,7 @@ public final class ApiHelper {
         LogHelper.info("POST (no Content-Type) " + base + ep);
         LogHelper.info("Request body:");
         LogHelper.pretty(body);
-        Response resp = baseSpecNoContentType(true).body(body).post(ep);
-        LogHelper.info("Status: " + resp.statusCode());
-        LogHelper.prettyJson(resp.asString());
-        return resp;
+        return send("POST", ep, false, () -> baseSpecNoContentType(true).body(body).post(ep));
     }
 
 
@@ -139,10 +338,7 @@ public final class ApiHelper {
         String ep = norm(endpoint);
         LogHelper.info("POST raw JSON " + base + ep);
         LogHelper.info("Request body:\n" + rawJson);
-        Response resp = baseSpec().body(rawJson).post(ep);
-        LogHelper.info("Status: " + resp.statusCode());
-        LogHelper.prettyJson(resp.asString());
-        return resp;
+        return send("POST", ep, false, () -> baseSpec().body(rawJson).post(ep));
     }
 
 }
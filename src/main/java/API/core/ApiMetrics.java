@@ -0,0 +1,189 @@
+package API.core;
+
+import Common.LatencyHistogram;
+import Common.LogHelper;
+import UI.core.ConfigManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per method + endpoint template wall time, bytes and status class for every ApiHelper call.
+ * Ids in paths are folded into the template ({@code GET /api/Employees/{id}}) so series stay
+ * bounded. Recording is lock-free; on JVM exit the totals are written to API_METRICS_DIR as
+ * api-metrics.json and api-metrics.prom (Prometheus text format). API_METRICS_ENABLED=false
+ * turns recording off.
+ */
+public final class ApiMetrics {
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(ConfigManager.getProperty("API_METRICS_ENABLED"));
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx", "error"};
+    private static final Map<String, EndpointStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ApiMetrics::writeOnExit, "api-metrics-report"));
+        }
+    }
+
+    private ApiMetrics() {
+    }
+
+    public static final class EndpointStats {
+        final String method;
+        final String template;
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+        final LongAdder[] statusClasses = new LongAdder[STATUS_CLASSES.length];
+
+        EndpointStats(String method, String template) {
+            this.method = method;
+            this.template = template;
+            for (int i = 0; i < statusClasses.length; i++) {
+                statusClasses[i] = new LongAdder();
+            }
+        }
+
+        public LatencyHistogram latency() { return latency; }
+        public long bytesSent() { return bytesSent.sum(); }
+        public long bytesReceived() { return bytesReceived.sum(); }
+
+        public long count(String statusClass) {
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                if (STATUS_CLASSES[i].equals(statusClass)) return statusClasses[i].sum();
+            }
+            throw new IllegalArgumentException("Unknown status class: " + statusClass);
+        }
+    }
+
+    /**
+     * @param status HTTP status, or a negative value when the call threw before a response
+     */
+    static void record(String method, String endpoint, int status, long nanos, long sent, long received) {
+        if (!ENABLED) return;
+        String template = template(endpoint);
+        EndpointStats stats = STATS.computeIfAbsent(method + " " + template, k -> new EndpointStats(method, template));
+        stats.latency.record(nanos / 1_000);
+        if (sent > 0) stats.bytesSent.add(sent);
+        if (received > 0) stats.bytesReceived.add(received);
+        int statusClass = status >= 100 && status < 600 ? status / 100 - 1 : STATUS_CLASSES.length - 1;
+        stats.statusClasses[statusClass].increment();
+    }
+
+    /**
+     * Path without query, with every segment after {@code /api/<collection>} replaced by {@code {id}}.
+     */
+    static String template(String endpoint) {
+        int query = endpoint.indexOf('?');
+        String path = query >= 0 ? endpoint.substring(0, query) : endpoint;
+        String[] segments = path.split("/", -1);
+        if (segments.length <= 3) return path;
+        StringBuilder sb = new StringBuilder(segments[0]).append('/').append(segments[1]).append('/').append(segments[2]);
+        for (int i = 3; i < segments.length; i++) {
+            sb.append("/{id}");
+        }
+        return sb.toString();
+    }
+
+    public static Map<String, EndpointStats> snapshot() {
+        return new TreeMap<>(STATS);
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    public static void writeReport(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Map<String, EndpointStats> stats = snapshot();
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        stats.forEach((key, s) -> {
+            LatencyHistogram h = s.latency;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", h.count());
+            row.put("meanMs", round(h.mean() / 1000.0));
+            row.put("p50Ms", millis(h.percentile(50)));
+            row.put("p90Ms", millis(h.percentile(90)));
+            row.put("p99Ms", millis(h.percentile(99)));
+            row.put("p999Ms", millis(h.percentile(99.9)));
+            row.put("maxMs", millis(h.max()));
+            row.put("bytesSent", s.bytesSent());
+            row.put("bytesReceived", s.bytesReceived());
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                long n = s.statusClasses[i].sum();
+                if (n > 0) statuses.put(STATUS_CLASSES[i], n);
+            }
+            row.put("status", statuses);
+            json.put(key, row);
+        });
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(dir.resolve("api-metrics.json").toFile(), json);
+
+        try (PrintWriter prom = new PrintWriter(Files.newBufferedWriter(dir.resolve("api-metrics.prom")))) {
+            prom.println("# HELP api_request_duration_seconds ApiHelper call wall time.");
+            prom.println("# TYPE api_request_duration_seconds summary");
+            stats.values().forEach(s -> {
+                String labels = labels(s);
+                for (double q : QUANTILES) {
+                    prom.println("api_request_duration_seconds{" + labels + ",quantile=\"" + q + "\"} "
+                            + s.latency.percentile(q * 100) / 1e6);
+                }
+                prom.println("api_request_duration_seconds_sum{" + labels + "} " + s.latency.mean() * s.latency.count() / 1e6);
+                prom.println("api_request_duration_seconds_count{" + labels + "} " + s.latency.count());
+            });
+            prom.println("# HELP api_requests_total ApiHelper calls by status class.");
+            prom.println("# TYPE api_requests_total counter");
+            stats.values().forEach(s -> {
+                for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                    long n = s.statusClasses[i].sum();
+                    if (n > 0) {
+                        prom.println("api_requests_total{" + labels(s) + ",status_class=\"" + STATUS_CLASSES[i] + "\"} " + n);
+                    }
+                }
+            });
+            prom.println("# HELP api_request_bytes_total Request body bytes sent.");
+            prom.println("# TYPE api_request_bytes_total counter");
+            stats.values().forEach(s -> prom.println("api_request_bytes_total{" + labels(s) + "} " + s.bytesSent()));
+            prom.println("# HELP api_response_bytes_total Response body bytes received.");
+            prom.println("# TYPE api_response_bytes_total counter");
+            stats.values().forEach(s -> prom.println("api_response_bytes_total{" + labels(s) + "} " + s.bytesReceived()));
+        }
+    }
+
+    private static void writeOnExit() {
+        if (STATS.isEmpty()) return;
+        String dir = ConfigManager.getProperty("API_METRICS_DIR");
+        Path path = Path.of(dir == null || dir.isBlank() ? "target/metrics" : dir);
+        try {
+            writeReport(path);
+            LogHelper.info("API metrics written to " + path.toAbsolutePath());
+        } catch (IOException e) {
+            LogHelper.error("Failed to write API metrics: " + e);
+        }
+    }
+
+    private static String labels(EndpointStats s) {
+        return "method=\"" + s.method + "\",endpoint=\"" + s.template.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,82 @@
+package API.core;
+
+import Common.LogHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consecutive-failure circuit breaker in front of the API. After {@code failureThreshold}
+ * failed attempts in a row (connection errors, timeouts, 502/503/504) calls fail fast with
+ * {@link CircuitOpenException} for {@code openMillis}; then a single trial call is let through
+ * and its outcome closes or re-opens the circuit.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // 0 = closed, otherwise the time the circuit opened
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicLong trialStartedAt = new AtomicLong();
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public static class CircuitOpenException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public CircuitOpenException(String message) {
+            super(message);
+        }
+    }
+
+    public State state() {
+        long opened = openedAt.get();
+        if (opened == 0) return State.CLOSED;
+        return System.currentTimeMillis() - opened >= openMillis ? State.HALF_OPEN : State.OPEN;
+    }
+
+    /**
+     * @throws CircuitOpenException while open, or while another caller runs the half-open trial
+     */
+    public void acquire() {
+        if (failureThreshold <= 0) return;
+        long opened = openedAt.get();
+        if (opened == 0) return;
+        long now = System.currentTimeMillis();
+        if (now - opened >= openMillis) {
+            long trial = trialStartedAt.get();
+            // One trial per open period; a trial that never reported back is replaced after openMillis
+            if ((trial < opened || now - trial >= openMillis) && trialStartedAt.compareAndSet(trial, now)) {
+                return;
+            }
+        }
+        throw new CircuitOpenException("Circuit '" + name + "' is open after " + consecutiveFailures.get()
+                + " consecutive failures; retrying in " + Math.max(0, openMillis - (now - opened)) + " ms");
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (openedAt.getAndSet(0) != 0) {
+            LogHelper.warn("Circuit '" + name + "' closed");
+        }
+    }
+
+    public void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failureThreshold > 0 && failures >= failureThreshold) {
+            long now = System.currentTimeMillis();
+            long previous = openedAt.getAndSet(now);
+            if (previous == 0) {
+                LogHelper.warn("Circuit '" + name + "' opened after " + failures + " consecutive failures");
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package API.core;
+
+import UI.core.ConfigManager;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * When and how long ApiHelper waits before retrying. Only idempotent methods are retried, on
+ * connection errors and timeouts or a 429/502/503/504 status, with full-jitter exponential
+ * backoff or the server's Retry-After, whichever is longer. Nothing is retried past
+ * {@code deadlineMillis} from the first attempt.
+ */
+public record RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, long deadlineMillis) {
+
+    private static final Set<String> IDEMPOTENT = Set.of("GET", "PUT", "DELETE", "HEAD", "OPTIONS");
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 502, 503, 504);
+
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy(
+                Math.max(1, ConfigManager.getInt("API_RETRY_MAX_ATTEMPTS", 3)),
+                ConfigManager.getInt("API_RETRY_BASE_DELAY_MS", 200),
+                ConfigManager.getInt("API_RETRY_MAX_DELAY_MS", 5000),
+                ConfigManager.getInt("API_CALL_DEADLINE_MS", 30000));
+    }
+
+    public boolean isRetryable(String method) {
+        return maxAttempts > 1 && IDEMPOTENT.contains(method);
+    }
+
+    public static boolean isRetryableStatus(int status) {
+        return RETRYABLE_STATUS.contains(status);
+    }
+
+    /**
+     * Full jitter: uniform in [0, min(maxDelay, baseDelay * 2^(attempt-1))].
+     */
+    public long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * @return the Retry-After delay in ms (delta-seconds or HTTP-date), or 0 if absent/invalid
+     */
+    public static long retryAfterMillis(Response resp) {
+        String value = resp.getHeader("Retry-After");
+        if (value == null || value.isBlank()) return 0;
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException ignored) {
+            // not delta-seconds, try HTTP-date
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+}
@@ -5,17 +5,27 @@ import API.models.employees.EmployeeUpdateRequest;
 import API.responses.employees.EmployeeResponse;
 import Common.LogHelper;
 import UI.core.ConfigManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.github.javafaker.Faker;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
 
 public final class EmployeeDataFactory {
     private static final Faker faker = new Faker(new Locale("en-US"));
+    // DATA_FACTORY_FAST=true routes the random builders to the pooled, thread-safe generator
+    private static final boolean FAST = Boolean.parseBoolean(ConfigManager.getProperty("DATA_FACTORY_FAST"));
 
     private EmployeeDataFactory() {
     }
 
     public static EmployeeCreateRequest createDefault() {
+        if (FAST) return FastEmployeeDataFactory.createDefault();
         String user = ConfigManager.user();
         String first = faker.name().firstName();
         String last = faker.name().lastName();
@@ -34,6 +44,7 @@ public final class EmployeeDataFactory {
     }
 
     public static EmployeeUpdateRequest update(String id) {
+        if (FAST) return FastEmployeeDataFactory.update(id);
         String user = ConfigManager.user();
         String first = faker.name().firstName();
         String last = faker.name().lastName();
@@ -73,6 +84,28 @@ public final class EmployeeDataFactory {
         return body;
     }
 
+    /**
+     * Streams {@code count} create requests to {@code file} as NDJSON, one object per line, without
+     * holding them in memory. The same seed and DATA_POOL_SIZE always produce the same file.
+     */
+    public static void writeDataset(Path file, int count, long seed) {
+        FastEmployeeDataFactory.Generator generator = new FastEmployeeDataFactory.Generator(seed);
+        long start = System.nanoTime();
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file);
+                 SequenceWriter writer = new ObjectMapper().writer().withRootValueSeparator("\n").writeValues(out)) {
+                for (int i = 0; i < count; i++) {
+                    writer.write(generator.next());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write dataset " + file, e);
+        }
+        LogHelper.info("Wrote " + count + " employees (seed=" + seed + ") to " + file
+                + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
     public static EmployeeCreateRequest createNamesOnly(String first, String last) {
         String user = ConfigManager.user();
         EmployeeCreateRequest body = new EmployeeCreateRequest();
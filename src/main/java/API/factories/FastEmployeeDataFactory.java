@@ -0,0 +1,114 @@
+package API.factories;
+
+import API.models.employees.EmployeeCreateRequest;
+import API.models.employees.EmployeeUpdateRequest;
+import Common.LogHelper;
+import UI.core.ConfigManager;
+import com.github.javafaker.Faker;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Thread-safe, allocation-light alternative to {@link EmployeeDataFactory} for load and scale
+ * tests. Names are drawn from pools that a seeded Faker fills once at class load (DATA_POOL_SIZE
+ * entries each, identical on every run), so building a request is a few random draws.
+ * Bodies are only logged when DATA_FACTORY_LOG=true.
+ * <p>
+ * Static methods use {@link ThreadLocalRandom}; {@link Generator} gives a reproducible sequence
+ * from a seed and can be {@link Generator#split() split} per thread.
+ */
+public final class FastEmployeeDataFactory {
+
+    private static final long POOL_SEED = 20240601L;
+    private static final String[] FIRST_NAMES;
+    private static final String[] LAST_NAMES;
+    private static final String USER = ConfigManager.user();
+    private static final boolean LOG = Boolean.parseBoolean(ConfigManager.getProperty("DATA_FACTORY_LOG"));
+
+    static {
+        int size = Math.max(1, ConfigManager.getInt("DATA_POOL_SIZE", 1000));
+        Faker faker = new Faker(new Locale("en-US"), new Random(POOL_SEED));
+        FIRST_NAMES = new String[size];
+        LAST_NAMES = new String[size];
+        for (int i = 0; i < size; i++) {
+            FIRST_NAMES[i] = faker.name().firstName();
+            LAST_NAMES[i] = faker.name().lastName();
+        }
+    }
+
+    private FastEmployeeDataFactory() {
+    }
+
+    public static EmployeeCreateRequest createDefault() {
+        return create(ThreadLocalRandom.current());
+    }
+
+    public static EmployeeUpdateRequest update(String id) {
+        return update(ThreadLocalRandom.current(), id);
+    }
+
+    public static int poolSize() {
+        return FIRST_NAMES.length;
+    }
+
+    /**
+     * Same value ranges as {@link EmployeeDataFactory#createDefault()}.
+     */
+    static EmployeeCreateRequest create(RandomGenerator random) {
+        EmployeeCreateRequest body = new EmployeeCreateRequest(
+                USER,
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                random.nextInt(0, 5),
+                random.nextInt(30000, 150000));
+        if (LOG) LogHelper.pretty(body);
+        return body;
+    }
+
+    /**
+     * Same value ranges as {@link EmployeeDataFactory#update(String)}.
+     */
+    static EmployeeUpdateRequest update(RandomGenerator random, String id) {
+        EmployeeUpdateRequest body = new EmployeeUpdateRequest(
+                id,
+                USER,
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                random.nextInt(0, 10),
+                random.nextInt(30000, 200000));
+        if (LOG) LogHelper.pretty(body);
+        return body;
+    }
+
+    /**
+     * Seeded request sequence: the same seed and pool size always yield the same requests.
+     * Not thread-safe; give each thread its own {@link #split()}.
+     */
+    public static final class Generator {
+        private final SplittableRandom random;
+
+        public Generator(long seed) {
+            this(new SplittableRandom(seed));
+        }
+
+        private Generator(SplittableRandom random) {
+            this.random = random;
+        }
+
+        public Generator split() {
+            return new Generator(random.split());
+        }
+
+        public EmployeeCreateRequest next() {
+            return create(random);
+        }
+
+        public EmployeeUpdateRequest nextUpdate(String id) {
+            return update(random, id);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package API.load;
+
+import API.factories.EmployeeDataFactory;
+import API.factories.FastEmployeeDataFactory;
+import API.services.DatasetLoadReport;
+import API.services.EmployeeService;
+import Common.LogHelper;
+import UI.core.ConfigManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads a reproducible dataset for performance runs: writes DATASET_SIZE employees from
+ * DATASET_SEED to DATASET_DIR (skipped if that file already exists; the name includes the size,
+ * seed and DATA_POOL_SIZE, which together decide its content), then creates them
+ * through EmployeeService in batches of DATASET_BATCH_SIZE.
+ * <pre>mvn -Pload compile exec:java -Dload.main=API.load.DatasetLoader -DDATASET_SIZE=10000</pre>
+ */
+public final class DatasetLoader {
+
+    private DatasetLoader() {
+    }
+
+    public static void main(String[] args) {
+        int size = ConfigManager.getInt("DATASET_SIZE", 1000);
+        long seed = ConfigManager.getInt("DATASET_SEED", 42);
+        String dir = ConfigManager.getProperty("DATASET_DIR");
+        Path file = Path.of(dir == null || dir.isBlank() ? "target/datasets" : dir,
+                "employees-" + size + "-seed" + seed + "-pool" + FastEmployeeDataFactory.poolSize() + ".ndjson");
+
+        if (!Files.exists(file)) {
+            EmployeeDataFactory.writeDataset(file, size, seed);
+        }
+        DatasetLoadReport report = EmployeeService.loadDataset(file, ConfigManager.getInt("DATASET_BATCH_SIZE", 500));
+        LogHelper.warn("Dataset load: " + report + String.format(", %.1f rows/s", report.rowsPerSecond()));
+    }
+}
@@ -0,0 +1,245 @@
+package API.load;
+
+import API.core.ApiHelper;
+import API.factories.FastEmployeeDataFactory;
+import API.load.LoadProfile.Operation;
+import API.services.EmployeeServiceAsync;
+import Common.LatencyHistogram;
+import Common.LogHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a CRUD mix against the Employees API through ApiHelper for a fixed duration and writes
+ * per-endpoint latency percentiles to summary.json and summary.csv in LOAD_OUTPUT_DIR.
+ * <p>
+ * With LOAD_TARGET_RPS &gt; 0 requests are paced on a fixed schedule and latency is measured
+ * from each request's intended start, so a slow server is not hidden by fewer requests
+ * (coordinated omission). Otherwise each of LOAD_CONCURRENCY workers loops back to back.
+ * Run it against the in-process stub with -DAPI_STUB=true, or against another host with
+ * -DAPI_BASE_URL. Employees created during the run are deleted afterwards.
+ * <pre>mvn -Pload compile exec:java -DLOAD_DURATION_SECONDS=60 -DLOAD_TARGET_RPS=200</pre>
+ */
+public final class LoadDriver {
+
+    private final LoadProfile profile;
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final List<String> liveIds = new ArrayList<>();
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private long elapsedNanos;
+
+    public LoadDriver(LoadProfile profile) {
+        this.profile = profile;
+        for (Operation op : Operation.values()) {
+            latencies.put(op, new LatencyHistogram());
+            errors.put(op, new AtomicLong());
+        }
+        operations = profile.mix().keySet().toArray(new Operation[0]);
+        cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += profile.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.fromConfig();
+        LoadDriver driver = new LoadDriver(profile);
+        driver.run();
+        driver.writeSummary(Path.of(profile.outputDir()));
+    }
+
+    public void run() throws InterruptedException {
+        LogHelper.warn("Load run: " + profile);
+        warmUp();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(profile.durationSeconds());
+        long intervalNanos = profile.targetRps() > 0 ? 1_000_000_000L / profile.targetRps() : 0;
+        AtomicLong sequence = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(profile.concurrency());
+        for (int w = 0; w < profile.concurrency(); w++) {
+            workers.submit(() -> {
+                while (true) {
+                    long intended;
+                    if (intervalNanos > 0) {
+                        intended = start + sequence.getAndIncrement() * intervalNanos;
+                        if (intended >= end) return;
+                        long wait;
+                        while ((wait = intended - System.nanoTime()) > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                    } else {
+                        intended = System.nanoTime();
+                        if (intended >= end) return;
+                    }
+                    execute(pickOperation(), intended);
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(profile.durationSeconds() + 120L, TimeUnit.SECONDS)) {
+            LogHelper.warn("Load workers still running 120 s after the run should have ended; interrupting them,"
+                    + " the summary may miss their last requests");
+            workers.shutdownNow();
+        }
+        elapsedNanos = System.nanoTime() - start;
+        cleanUp();
+    }
+
+    /**
+     * One untimed pass over every operation so class loading, the data pools and Rest Assured
+     * initialization do not land in the first measured requests.
+     */
+    private void warmUp() {
+        Response created = ApiHelper.post("/api/Employees", FastEmployeeDataFactory.createDefault());
+        String id = created.jsonPath().getString("id");
+        if (id != null) {
+            ApiHelper.get("/api/Employees/" + id);
+            ApiHelper.put("/api/Employees", FastEmployeeDataFactory.update(id));
+            ApiHelper.delete("/api/Employees/" + id);
+        }
+    }
+
+    private Operation pickOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) return operations[i];
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void execute(Operation op, long intendedStart) {
+        String id = null;
+        if (op != Operation.CREATE) {
+            id = op == Operation.DELETE ? takeId() : peekId();
+            if (id == null) op = Operation.CREATE;
+        }
+
+        boolean ok;
+        try {
+            Response resp = switch (op) {
+                case CREATE -> ApiHelper.post("/api/Employees", FastEmployeeDataFactory.createDefault());
+                case GET -> ApiHelper.get("/api/Employees/" + id);
+                case UPDATE -> ApiHelper.put("/api/Employees", FastEmployeeDataFactory.update(id));
+                case DELETE -> ApiHelper.delete("/api/Employees/" + id);
+            };
+            ok = resp.statusCode() / 100 == 2;
+            if (ok && op == Operation.CREATE) {
+                addId(resp.jsonPath().getString("id"));
+            }
+        } catch (Exception e) {
+            // Rest Assured also throws I/O failures as undeclared checked exceptions; count them
+            // here so the worker keeps looping and the error is not lost with its thread
+            ok = false;
+        }
+
+        latencies.get(op).record((System.nanoTime() - intendedStart) / 1_000);
+        if (!ok) errors.get(op).incrementAndGet();
+    }
+
+    private synchronized void addId(String id) {
+        if (id != null) liveIds.add(id);
+    }
+
+    private synchronized String peekId() {
+        if (liveIds.isEmpty()) return null;
+        return liveIds.get(ThreadLocalRandom.current().nextInt(liveIds.size()));
+    }
+
+    private synchronized String takeId() {
+        if (liveIds.isEmpty()) return null;
+        int i = ThreadLocalRandom.current().nextInt(liveIds.size());
+        String id = liveIds.get(i);
+        liveIds.set(i, liveIds.get(liveIds.size() - 1));
+        liveIds.remove(liveIds.size() - 1);
+        return id;
+    }
+
+    private void cleanUp() {
+        List<String> ids;
+        synchronized (this) {
+            ids = new ArrayList<>(liveIds);
+            liveIds.clear();
+        }
+        List<CompletableFuture<Void>> deletes = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            deletes.add(EmployeeServiceAsync.deleteById(id));
+        }
+        CompletableFuture.allOf(deletes.toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+        LogHelper.warn("Load run cleanup deleted " + ids.size() + " employees");
+    }
+
+    public Map<String, Map<String, Object>> summary() {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+        for (Operation op : Operation.values()) {
+            LatencyHistogram h = latencies.get(op);
+            if (h.count() == 0) continue;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", h.count());
+            row.put("errors", errors.get(op).get());
+            row.put("rps", round(h.count() / seconds));
+            row.put("minMs", millis(h.min()));
+            row.put("meanMs", round(h.mean() / 1000.0));
+            row.put("p50Ms", millis(h.percentile(50)));
+            row.put("p90Ms", millis(h.percentile(90)));
+            row.put("p99Ms", millis(h.percentile(99)));
+            row.put("p999Ms", millis(h.percentile(99.9)));
+            row.put("maxMs", millis(h.max()));
+            rows.put(op.getEndpoint(), row);
+        }
+        return rows;
+    }
+
+    public void writeSummary(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Map<String, Map<String, Object>> rows = summary();
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("profile", profile);
+        json.put("elapsedSeconds", round(elapsedNanos / 1e9));
+        json.put("endpoints", rows);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(dir.resolve("summary.json").toFile(), json);
+
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(dir.resolve("summary.csv")))) {
+            csv.println("endpoint,count,errors,rps,minMs,meanMs,p50Ms,p90Ms,p99Ms,p999Ms,maxMs");
+            rows.forEach((endpoint, row) -> {
+                StringBuilder line = new StringBuilder("\"").append(endpoint).append('"');
+                row.values().forEach(v -> line.append(',').append(v));
+                csv.println(line);
+            });
+        }
+        LogHelper.warn("Load summary written to " + dir.toAbsolutePath() + ": " + rows);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,67 @@
+package API.load;
+
+import UI.core.ConfigManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for one load run, read from settings.properties or -D overrides:
+ * LOAD_DURATION_SECONDS, LOAD_CONCURRENCY, LOAD_TARGET_RPS (0 = closed loop, as fast as the
+ * workers go), LOAD_MIX (e.g. create:20,get:50,update:20,delete:10) and LOAD_OUTPUT_DIR.
+ */
+public record LoadProfile(int durationSeconds,
+                          int concurrency,
+                          int targetRps,
+                          Map<LoadProfile.Operation, Integer> mix,
+                          String outputDir) {
+
+    public enum Operation {
+        CREATE("POST /api/Employees"),
+        GET("GET /api/Employees/{id}"),
+        UPDATE("PUT /api/Employees"),
+        DELETE("DELETE /api/Employees/{id}");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+    }
+
+    public static LoadProfile fromConfig() {
+        return new LoadProfile(
+                ConfigManager.getInt("LOAD_DURATION_SECONDS", 30),
+                ConfigManager.getInt("LOAD_CONCURRENCY", 8),
+                ConfigManager.getInt("LOAD_TARGET_RPS", 0),
+                parseMix(ConfigManager.getProperty("LOAD_MIX")),
+                valueOr(ConfigManager.getProperty("LOAD_OUTPUT_DIR"), "target/load"));
+    }
+
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        String effective = (spec == null || spec.isBlank()) ? "create:20,get:50,update:20,delete:10" : spec;
+        for (String part : effective.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Invalid LOAD_MIX entry: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(kv[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("LOAD_MIX has no positive weights: " + effective);
+        }
+        return mix;
+    }
+
+    private static String valueOr(String value, String fallback) {
+        return (value == null || value.isBlank()) ? fallback : value;
+    }
+}
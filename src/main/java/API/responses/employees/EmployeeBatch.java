@@ -0,0 +1,373 @@
+package API.responses.employees;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Column-per-field view of an employee list for bulk jobs that never need per-row objects.
+ * UUID ids are kept as two longs, UTC expirations as epoch nanos, numbers as primitive arrays
+ * and repeating strings (username, partition key, names) as int codes into a shared dictionary.
+ * Values that would not round-trip exactly in compact form are kept as text.
+ * <p>
+ * Missing numbers read as {@link #MISSING_INT} or {@code NaN}. Rows are addressed by index
+ * ({@link #indices()}) or by id ({@link #indexOf(String)}); instances are immutable once read.
+ */
+public final class EmployeeBatch {
+
+    public static final int MISSING_INT = Integer.MIN_VALUE;
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int NULL_CODE = -1;
+    private static final int SAME_AS_ID = -2;
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final int size;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final String[] rawIds;
+    private final int[] partitionKey;
+    private final int[] sortKey;
+    private final int[] username;
+    private final int[] firstName;
+    private final int[] lastName;
+    private final long[] expirationNanos;
+    private final String[] rawExpirations;
+    private final int[] dependants;
+    private final int[] salary;
+    private final double[] gross;
+    private final double[] benefitsCost;
+    private final double[] net;
+    private final String[] dictionary;
+    private final int[] uuidSlots;
+    private final Map<String, Integer> rawIdIndex = new HashMap<>();
+
+    private EmployeeBatch(Builder b) {
+        size = b.size;
+        idHigh = Arrays.copyOf(b.idHigh, size);
+        idLow = Arrays.copyOf(b.idLow, size);
+        rawIds = b.rawIds == null ? null : Arrays.copyOf(b.rawIds, size);
+        partitionKey = Arrays.copyOf(b.partitionKey, size);
+        sortKey = Arrays.copyOf(b.sortKey, size);
+        username = Arrays.copyOf(b.username, size);
+        firstName = Arrays.copyOf(b.firstName, size);
+        lastName = Arrays.copyOf(b.lastName, size);
+        expirationNanos = Arrays.copyOf(b.expirationNanos, size);
+        rawExpirations = b.rawExpirations == null ? null : Arrays.copyOf(b.rawExpirations, size);
+        dependants = Arrays.copyOf(b.dependants, size);
+        salary = Arrays.copyOf(b.salary, size);
+        gross = Arrays.copyOf(b.gross, size);
+        benefitsCost = Arrays.copyOf(b.benefitsCost, size);
+        net = Arrays.copyOf(b.net, size);
+        dictionary = b.dictionary.toArray(new String[0]);
+
+        // Open-addressing table over the UUID halves: slot holds row index + 1, 0 = empty
+        uuidSlots = new int[Math.max(2, Integer.highestOneBit(Math.max(1, size)) << 2)];
+        for (int i = 0; i < size; i++) {
+            if (rawIds != null && rawIds[i] != null) {
+                rawIdIndex.putIfAbsent(rawIds[i], i);
+            } else if (idHigh[i] != 0 || idLow[i] != 0) {
+                int slot = slot(idHigh[i], idLow[i]);
+                while (uuidSlots[slot] != 0 && !sameUuid(uuidSlots[slot] - 1, idHigh[i], idLow[i])) {
+                    slot = (slot + 1) & (uuidSlots.length - 1);
+                }
+                if (uuidSlots[slot] == 0) uuidSlots[slot] = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Decodes a JSON array of employees token by token, without building EmployeeResponse
+     * objects. Unknown fields, and known fields holding an object or array, are skipped.
+     * Does not close {@code in}.
+     */
+    public static EmployeeBatch read(InputStream in) throws IOException {
+        Builder b = new Builder();
+        try (JsonParser p = JSON.createParser(in)) {
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of employees but got " + p.currentToken());
+            }
+            while (p.nextToken() == JsonToken.START_OBJECT) {
+                b.startRow();
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    JsonToken value = p.nextToken();
+                    b.set(field, value, p);
+                }
+                b.endRow();
+            }
+        }
+        return new EmployeeBatch(b);
+    }
+
+    public static EmployeeBatch of(List<EmployeeResponse> employees) {
+        Builder b = new Builder();
+        for (EmployeeResponse e : employees) {
+            b.startRow();
+            b.setId(e.getId());
+            b.setString(b.partitionKey, e.getPartitionKey());
+            b.sortKey[b.size - 1] = e.getSortKey() != null && e.getSortKey().equals(e.getId())
+                    ? SAME_AS_ID : b.code(e.getSortKey());
+            b.setString(b.username, e.getUsername());
+            b.setString(b.firstName, e.getFirstName());
+            b.setString(b.lastName, e.getLastName());
+            b.setExpiration(e.getExpiration());
+            b.dependants[b.size - 1] = e.getDependants() == null ? MISSING_INT : e.getDependants();
+            b.salary[b.size - 1] = e.getSalary() == null ? MISSING_INT : e.getSalary();
+            b.gross[b.size - 1] = e.getGross() == null ? Double.NaN : e.getGross();
+            b.benefitsCost[b.size - 1] = e.getBenefitsCost() == null ? Double.NaN : e.getBenefitsCost();
+            b.net[b.size - 1] = e.getNet() == null ? Double.NaN : e.getNet();
+        }
+        return new EmployeeBatch(b);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public IntStream indices() {
+        return IntStream.range(0, size);
+    }
+
+    /**
+     * @return the row index for {@code id}, or -1
+     */
+    public int indexOf(String id) {
+        if (id == null) return -1;
+        Integer raw = rawIdIndex.get(id);
+        if (raw != null) return raw;
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        long high = uuid.getMostSignificantBits();
+        long low = uuid.getLeastSignificantBits();
+        for (int slot = slot(high, low); uuidSlots[slot] != 0; slot = (slot + 1) & (uuidSlots.length - 1)) {
+            if (sameUuid(uuidSlots[slot] - 1, high, low)) return uuidSlots[slot] - 1;
+        }
+        return -1;
+    }
+
+    public String id(int i) {
+        if (rawIds != null && rawIds[i] != null) return rawIds[i];
+        if (idHigh[i] == 0 && idLow[i] == 0) return null;
+        return new UUID(idHigh[i], idLow[i]).toString();
+    }
+
+    public String partitionKey(int i) { return text(partitionKey[i]); }
+    public String sortKey(int i) { return sortKey[i] == SAME_AS_ID ? id(i) : text(sortKey[i]); }
+    public String username(int i) { return text(username[i]); }
+    public String firstName(int i) { return text(firstName[i]); }
+    public String lastName(int i) { return text(lastName[i]); }
+    public String expiration(int i) {
+        if (rawExpirations != null && rawExpirations[i] != null) return rawExpirations[i];
+        return expirationNanos[i] == NO_TIME ? null : formatUtc(expirationNanos[i]);
+    }
+    public int dependants(int i) { return dependants[i]; }
+    public int salary(int i) { return salary[i]; }
+    public double gross(int i) { return gross[i]; }
+    public double benefitsCost(int i) { return benefitsCost[i]; }
+    public double net(int i) { return net[i]; }
+
+    /**
+     * Materializes one row, e.g. to report a mismatch.
+     */
+    public EmployeeResponse toResponse(int i) {
+        EmployeeResponse e = new EmployeeResponse();
+        e.setId(id(i));
+        e.setPartitionKey(partitionKey(i));
+        e.setSortKey(sortKey(i));
+        e.setUsername(username(i));
+        e.setFirstName(firstName(i));
+        e.setLastName(lastName(i));
+        e.setExpiration(expiration(i));
+        e.setDependants(dependants[i] == MISSING_INT ? null : dependants[i]);
+        e.setSalary(salary[i] == MISSING_INT ? null : salary[i]);
+        e.setGross(Double.isNaN(gross[i]) ? null : gross[i]);
+        e.setBenefitsCost(Double.isNaN(benefitsCost[i]) ? null : benefitsCost[i]);
+        e.setNet(Double.isNaN(net[i]) ? null : net[i]);
+        return e;
+    }
+
+    private String text(int code) {
+        return code == NULL_CODE ? null : dictionary[code];
+    }
+
+    private static String formatUtc(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L))
+                .atOffset(ZoneOffset.UTC).toString();
+    }
+
+    private int slot(long high, long low) {
+        long h = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & (uuidSlots.length - 1);
+    }
+
+    private boolean sameUuid(int row, long high, long low) {
+        return idHigh[row] == high && idLow[row] == low && (rawIds == null || rawIds[row] == null);
+    }
+
+    private static final class Builder {
+        int size;
+        long[] idHigh = new long[64];
+        long[] idLow = new long[64];
+        String[] rawIds;
+        int[] partitionKey = new int[64];
+        int[] sortKey = new int[64];
+        int[] username = new int[64];
+        int[] firstName = new int[64];
+        int[] lastName = new int[64];
+        long[] expirationNanos = new long[64];
+        String[] rawExpirations;
+        int[] dependants = new int[64];
+        int[] salary = new int[64];
+        double[] gross = new double[64];
+        double[] benefitsCost = new double[64];
+        double[] net = new double[64];
+        final List<String> dictionary = new ArrayList<>();
+        final Map<String, Integer> codes = new HashMap<>();
+        String pendingSortKey;
+
+        void startRow() {
+            if (size == idHigh.length) grow(size + (size >> 1));
+            int i = size++;
+            idHigh[i] = 0;
+            idLow[i] = 0;
+            partitionKey[i] = NULL_CODE;
+            sortKey[i] = NULL_CODE;
+            username[i] = NULL_CODE;
+            firstName[i] = NULL_CODE;
+            lastName[i] = NULL_CODE;
+            expirationNanos[i] = NO_TIME;
+            dependants[i] = MISSING_INT;
+            salary[i] = MISSING_INT;
+            gross[i] = Double.NaN;
+            benefitsCost[i] = Double.NaN;
+            net[i] = Double.NaN;
+        }
+
+        void set(String field, JsonToken value, JsonParser p) throws IOException {
+            if (value == JsonToken.VALUE_NULL) return;
+            if (value.isStructStart()) {
+                // No known field holds an object or array; skip it whole so the parser stays on this row
+                p.skipChildren();
+                return;
+            }
+            int i = size - 1;
+            switch (field) {
+                case "id" -> setId(p.getText());
+                case "partitionKey" -> partitionKey[i] = code(p.getText());
+                // sortKey usually repeats the id and may come before it, so resolve it at row end
+                case "sortKey" -> pendingSortKey = p.getText();
+                case "username" -> username[i] = code(p.getText());
+                case "firstName" -> firstName[i] = code(p.getText());
+                case "lastName" -> lastName[i] = code(p.getText());
+                case "expiration" -> setExpiration(p.getText());
+                case "dependants" -> dependants[i] = p.getValueAsInt(MISSING_INT);
+                case "salary" -> salary[i] = p.getValueAsInt(MISSING_INT);
+                case "gross" -> gross[i] = p.getValueAsDouble(Double.NaN);
+                case "benefitsCost" -> benefitsCost[i] = p.getValueAsDouble(Double.NaN);
+                case "net" -> net[i] = p.getValueAsDouble(Double.NaN);
+                default -> p.skipChildren();
+            }
+        }
+
+        void setId(String id) {
+            if (id == null) return;
+            int i = size - 1;
+            try {
+                UUID uuid = UUID.fromString(id);
+                if (uuid.toString().equals(id)) {
+                    idHigh[i] = uuid.getMostSignificantBits();
+                    idLow[i] = uuid.getLeastSignificantBits();
+                    return;
+                }
+            } catch (IllegalArgumentException ignored) {
+                // not a canonical UUID, keep the text
+            }
+            if (rawIds == null) rawIds = new String[idHigh.length];
+            rawIds[i] = id;
+        }
+
+        void setExpiration(String text) {
+            if (text == null) return;
+            int i = size - 1;
+            try {
+                OffsetDateTime time = OffsetDateTime.parse(text);
+                if (time.getOffset().equals(ZoneOffset.UTC)) {
+                    Instant instant = time.toInstant();
+                    long nanos = Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+                    if (formatUtc(nanos).equals(text)) {
+                        expirationNanos[i] = nanos;
+                        return;
+                    }
+                }
+            } catch (DateTimeParseException | ArithmeticException ignored) {
+                // not an exactly reproducible UTC timestamp, keep the text
+            }
+            if (rawExpirations == null) rawExpirations = new String[idHigh.length];
+            rawExpirations[i] = text;
+        }
+
+        void setString(int[] column, String value) {
+            column[size - 1] = code(value);
+        }
+
+        int code(String value) {
+            if (value == null) return NULL_CODE;
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        void endRow() {
+            if (pendingSortKey != null) {
+                int i = size - 1;
+                boolean sameAsId = rawIds != null && rawIds[i] != null
+                        ? pendingSortKey.equals(rawIds[i])
+                        : (idHigh[i] != 0 || idLow[i] != 0)
+                          && pendingSortKey.equals(new UUID(idHigh[i], idLow[i]).toString());
+                sortKey[i] = sameAsId ? SAME_AS_ID : code(pendingSortKey);
+                pendingSortKey = null;
+            }
+        }
+
+        private void grow(int capacity) {
+            idHigh = Arrays.copyOf(idHigh, capacity);
+            idLow = Arrays.copyOf(idLow, capacity);
+            if (rawIds != null) rawIds = Arrays.copyOf(rawIds, capacity);
+            partitionKey = Arrays.copyOf(partitionKey, capacity);
+            sortKey = Arrays.copyOf(sortKey, capacity);
+            username = Arrays.copyOf(username, capacity);
+            firstName = Arrays.copyOf(firstName, capacity);
+            lastName = Arrays.copyOf(lastName, capacity);
+            expirationNanos = Arrays.copyOf(expirationNanos, capacity);
+            if (rawExpirations != null) rawExpirations = Arrays.copyOf(rawExpirations, capacity);
+            dependants = Arrays.copyOf(dependants, capacity);
+            salary = Arrays.copyOf(salary, capacity);
+            gross = Arrays.copyOf(gross, capacity);
+            benefitsCost = Arrays.copyOf(benefitsCost, capacity);
+            net = Arrays.copyOf(net, capacity);
+        }
+    }
+}
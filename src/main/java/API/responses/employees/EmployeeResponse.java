@@ -1,5 +1,7 @@
 package API.responses.employees;
 
+import Common.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -54,4 +56,13 @@ public class EmployeeResponse {
 
     public Double getNet() { return net; }
     public void setNet(Double net) { this.net = net; }
+
+    @JsonIgnore
+    public Money getGrossMoney() { return Money.ofNullable(gross); }
+
+    @JsonIgnore
+    public Money getBenefitsCostMoney() { return Money.ofNullable(benefitsCost); }
+
+    @JsonIgnore
+    public Money getNetMoney() { return Money.ofNullable(net); }
 }
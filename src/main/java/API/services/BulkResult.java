@@ -0,0 +1,51 @@
+package API.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Outcome of a bulk call: one slot per input, in input order. Failed slots hold {@code null}
+ * in {@link #getResults()} and their cause in {@link #getFailures()}, keyed by input index.
+ */
+public final class BulkResult<T> {
+    private final List<T> results;
+    private final Map<Integer, Throwable> failures;
+
+    private BulkResult(List<T> results, Map<Integer, Throwable> failures) {
+        this.results = Collections.unmodifiableList(results);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    static <T> BulkResult<T> collect(List<CompletableFuture<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        Map<Integer, Throwable> failures = new LinkedHashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).join());
+            } catch (CompletionException e) {
+                results.add(null);
+                failures.put(i, e.getCause() != null ? e.getCause() : e);
+            }
+        }
+        return new BulkResult<>(results, failures);
+    }
+
+    public List<T> getResults() { return results; }
+    public Map<Integer, Throwable> getFailures() { return failures; }
+    public boolean hasFailures() { return !failures.isEmpty(); }
+    public int successCount() { return results.size() - failures.size(); }
+
+    public List<T> orThrow() {
+        if (hasFailures()) {
+            Map.Entry<Integer, Throwable> first = failures.entrySet().iterator().next();
+            throw new RuntimeException(failures.size() + " of " + results.size()
+                    + " bulk requests failed; first at index " + first.getKey(), first.getValue());
+        }
+        return results;
+    }
+}
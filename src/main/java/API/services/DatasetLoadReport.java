@@ -0,0 +1,11 @@
+package API.services;
+
+/**
+ * Totals from {@link EmployeeService#loadDataset}.
+ */
+public record DatasetLoadReport(long rows, long created, long failed, long elapsedMillis) {
+
+    public double rowsPerSecond() {
+        return elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,129 @@
+package API.services;
+
+import API.responses.employees.EmployeeResponse;
+import UI.core.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Optional read-through cache for EmployeeService reads: bounded LRU with a TTL, keyed by
+ * employee id plus one key for the full list. Every write invalidates what it touched, and
+ * a generation counter keeps a read that raced with a write from caching stale data.
+ * Cached EmployeeResponse instances are shared, so callers must not mutate them.
+ */
+public final class EmployeeCache {
+
+    private static final String LIST_KEY = "list:/api/Employees";
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record Entry(Object value, long expiresAt) {}
+
+    public EmployeeCache(boolean enabled, int maxEntries, long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > EmployeeCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    static EmployeeCache fromConfig() {
+        return new EmployeeCache(
+                Boolean.parseBoolean(ConfigManager.getProperty("API_CACHE_ENABLED")),
+                ConfigManager.getInt("API_CACHE_MAX_ENTRIES", 1000),
+                ConfigManager.getInt("API_CACHE_TTL_SECONDS", 30));
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public long hits() { return hits.get(); }
+    public long misses() { return misses.get(); }
+    public long evictions() { return evictions.get(); }
+
+    public String stats() {
+        return "hits=" + hits() + " misses=" + misses() + " evictions=" + evictions();
+    }
+
+    EmployeeResponse getById(String id, Supplier<EmployeeResponse> loader) {
+        return (EmployeeResponse) readThrough("id:" + id, loader::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    List<EmployeeResponse> getAll(Supplier<List<EmployeeResponse>> loader) {
+        if (!enabled) return loader.get();
+        List<EmployeeResponse> list = (List<EmployeeResponse>) readThrough(LIST_KEY, () -> {
+            List<EmployeeResponse> loaded = loader.get();
+            return loaded == null ? null : new ArrayList<>(loaded);
+        });
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    void invalidate(String id) {
+        if (!enabled) return;
+        synchronized (this) {
+            generation++;
+            entries.remove("id:" + id);
+            entries.remove(LIST_KEY);
+        }
+    }
+
+    void invalidateList() {
+        if (!enabled) return;
+        synchronized (this) {
+            generation++;
+            entries.remove(LIST_KEY);
+        }
+    }
+
+    public void clear() {
+        if (!enabled) return;
+        synchronized (this) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    private Object readThrough(String key, Supplier<Object> loader) {
+        if (!enabled) return loader.get();
+
+        long seenGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+                hits.incrementAndGet();
+                return entry.value();
+            }
+            if (entry != null) entries.remove(key);
+            seenGeneration = generation;
+        }
+
+        misses.incrementAndGet();
+        Object value = loader.get();
+        synchronized (this) {
+            if (value != null && generation == seenGeneration) {
+                entries.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+            }
+        }
+        return value;
+    }
+}
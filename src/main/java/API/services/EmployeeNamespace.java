@@ -0,0 +1,58 @@
+package API.services;
+
+import API.responses.employees.EmployeeResponse;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-test last-name prefix ({@code t<run><seq>-}) for employees that tests can only find by name,
+ * such as rows added through the UI, so methods running in parallel on one tenant never match
+ * each other's rows. The prefix is assigned on first use in a thread and dropped by
+ * {@link #reset()}; the run part differs on every JVM start, so leftovers from earlier runs never
+ * match either.
+ * <p>
+ * The API partitions employees by the authenticated account rather than the {@code username}
+ * field, so usernames cannot be used to isolate tests.
+ */
+public final class EmployeeNamespace {
+
+    private static final String RUN = Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36, 36 * 36 * 36 * 36), 36);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private EmployeeNamespace() {
+    }
+
+    public static String prefix() {
+        String prefix = CURRENT.get();
+        if (prefix == null) {
+            prefix = "t" + RUN + Integer.toString(SEQUENCE.incrementAndGet(), 36) + "-";
+            CURRENT.set(prefix);
+        }
+        return prefix;
+    }
+
+    /**
+     * @return {@code lastName} with the current test's prefix, e.g. {@code tk3f91-Parker}
+     */
+    public static String lastName(String lastName) {
+        return prefix() + lastName;
+    }
+
+    /**
+     * @return whether the current thread has used a prefix since the last {@link #reset()}
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static boolean owns(EmployeeResponse employee) {
+        String prefix = CURRENT.get();
+        return prefix != null && employee.getLastName() != null && employee.getLastName().startsWith(prefix);
+    }
+
+    public static void reset() {
+        CURRENT.remove();
+    }
+}
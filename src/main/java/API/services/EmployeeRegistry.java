@@ -0,0 +1,86 @@
+package API.services;
+
+import Common.LogHelper;
+import UI.core.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Ids of employees created by the current thread (one TestNG test method), so cleanup deletes
+ * only those instead of the whole tenant. {@link EmployeeService#create} and
+ * EmployeesTableComponent record ids; {@link EmployeeService#deleteById} forgets them.
+ * EmployeeServiceAsync runs its tasks in the submitting thread's scope, so bulk creates are
+ * recorded too.
+ */
+public final class EmployeeRegistry {
+
+    private static final ThreadLocal<Set<String>> SCOPE = ThreadLocal.withInitial(ConcurrentHashMap::newKeySet);
+
+    private EmployeeRegistry() {
+    }
+
+    public static void record(String id) {
+        if (id != null && !id.isBlank()) SCOPE.get().add(id);
+    }
+
+    public static void forget(String id) {
+        if (id != null) SCOPE.get().remove(id);
+    }
+
+    public static Set<String> ids() {
+        return Set.copyOf(SCOPE.get());
+    }
+
+    /**
+     * Wraps {@code task} so it records into the calling thread's scope wherever it runs.
+     */
+    static <T> Supplier<T> inCurrentScope(Supplier<T> task) {
+        Set<String> scope = SCOPE.get();
+        return () -> {
+            Set<String> previous = SCOPE.get();
+            SCOPE.set(scope);
+            try {
+                return task.get();
+            } finally {
+                SCOPE.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Deletes every recorded id in parallel (404s count as done) and empties the scope.
+     *
+     * @return number of ids deleted
+     */
+    public static int deleteCreated() {
+        Set<String> scope = SCOPE.get();
+        List<String> ids = new ArrayList<>(scope);
+        scope.clear();
+        if (ids.isEmpty()) return 0;
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> deletes = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            deletes.add(EmployeeServiceAsync.deleteById(id));
+        }
+        int timeoutSeconds = ConfigManager.getInt("CLEANUP_REQUEST_TIMEOUT_SECONDS", 30);
+        int failed = 0;
+        for (int i = 0; i < deletes.size(); i++) {
+            try {
+                deletes.get(i).get(timeoutSeconds, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                failed++;
+                LogHelper.warn("Cleanup of employee " + ids.get(i) + " failed: " + e);
+            }
+        }
+        LogHelper.info("Deleted " + (ids.size() - failed) + " of " + ids.size() + " created employees in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return ids.size() - failed;
+    }
+}
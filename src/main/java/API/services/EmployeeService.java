@@ -3,32 +3,132 @@ package API.services;
 import API.core.ApiHelper;
 import API.models.employees.EmployeeCreateRequest;
 import API.models.employees.EmployeeUpdateRequest;
+import API.responses.employees.EmployeeBatch;
 import API.responses.employees.EmployeeResponse;
+import Common.LogHelper;
+import UI.core.ConfigManager;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.restassured.response.Response;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class EmployeeService {
 
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static final ObjectReader EMPLOYEE_READER = MAPPER.readerFor(EmployeeResponse.class);
+    private static final ObjectReader EMPLOYEE_LIST_READER =
+            MAPPER.readerFor(new TypeReference<List<EmployeeResponse>>() {
+            });
+
+    private static final EmployeeCache CACHE = EmployeeCache.fromConfig();
+    private static boolean tenantCleaned;
+
+    public static EmployeeCache cache() {
+        return CACHE;
+    }
 
     public static List<EmployeeResponse> getAll() {
+        return CACHE.getAll(EmployeeService::fetchAll);
+    }
+
+    private static List<EmployeeResponse> fetchAll() {
         Response resp = ApiHelper.get("/api/Employees");
         try {
-            return MAPPER.readValue(resp.asByteArray(),
-                    new TypeReference<List<EmployeeResponse>>() {
-                    });
+            return EMPLOYEE_LIST_READER.readValue(resp.asByteArray());
         } catch (Exception e) {
             throw new RuntimeException("Failed to map employees list", e);
         }
     }
 
+    /**
+     * Feeds employees to {@code consumer} one at a time while the list is parsed from the
+     * response stream, so memory stays flat however large the tenant is.
+     */
+    public static void forEachEmployee(Consumer<EmployeeResponse> consumer) {
+        try (Stream<EmployeeResponse> employees = streamAll()) {
+            employees.forEach(consumer);
+        }
+    }
+
+    /**
+     * Lazily parsed stream over GET /api/Employees. Must be closed (try-with-resources) to
+     * release the underlying connection.
+     */
+    public static Stream<EmployeeResponse> streamAll() {
+        Response resp = ApiHelper.getStreaming("/api/Employees");
+        if (resp.statusCode() != 200) {
+            throw new RuntimeException("Failed to list employees: HTTP " + resp.statusCode() + " " + resp.asString());
+        }
+        InputStream body = resp.asInputStream();
+        try {
+            MappingIterator<EmployeeResponse> it = EMPLOYEE_READER.readValues(body);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+                    .onClose(() -> {
+                        try {
+                            it.close();
+                            body.close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException e) {
+            try {
+                body.close();
+            } catch (IOException ignored) {
+            }
+            throw new RuntimeException("Failed to stream employees list", e);
+        }
+    }
+
+    /**
+     * GET /api/Employees decoded straight from the response stream into columns, for bulk jobs
+     * that do not need EmployeeResponse objects. Bypasses the read-through cache.
+     */
+    public static EmployeeBatch getAllBatch() {
+        Response resp = ApiHelper.getStreaming("/api/Employees");
+        if (resp.statusCode() != 200) {
+            throw new RuntimeException("Failed to list employees: HTTP " + resp.statusCode() + " " + resp.asString());
+        }
+        try (InputStream body = resp.asInputStream()) {
+            return EmployeeBatch.read(body);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to decode employees list", e);
+        }
+    }
+
     public static EmployeeResponse getById(String id) {
+        return CACHE.getById(id, () -> fetchById(id));
+    }
+
+    private static EmployeeResponse fetchById(String id) {
         Response resp = ApiHelper.get("/api/Employees/" + id);
         try {
-            return MAPPER.readValue(resp.asByteArray(), EmployeeResponse.class);
+            return EMPLOYEE_READER.readValue(resp.asByteArray());
         } catch (Exception e) {
             throw new RuntimeException("Failed to map employee by id", e);
         }
@@ -36,49 +136,290 @@ public class EmployeeService {
 
     public static void deleteById(String id) {
         if (id == null || id.isBlank()) {
-            Common.LogHelper.warn("DeleteById called with null/blank id, skipping");
+            LogHelper.warn("DeleteById called with null/blank id, skipping");
             return;
         }
         API.core.ApiHelper.delete("/api/Employees/" + id);
-        Common.LogHelper.info("Deleted employee with id=" + id);
+        CACHE.invalidate(id);
+        EmployeeRegistry.forget(id);
+        LogHelper.info("Deleted employee with id=" + id);
+    }
+
+    /**
+     * Wipes the tenant the first time it is called in this JVM; later calls return once that
+     * wipe has finished. Lets every test class clean up in @BeforeClass without one class
+     * deleting rows another class is already using when the suite runs in parallel.
+     */
+    public static synchronized void deleteAllOnce() {
+        if (tenantCleaned) return;
+        deleteAll();
+        tenantCleaned = true;
+    }
+
+    /**
+     * Employees that belong to the current test: ids in {@link EmployeeRegistry} plus rows whose
+     * last name carries the current {@link EmployeeNamespace} prefix.
+     */
+    public static List<EmployeeResponse> getAllInScope() {
+        Set<String> ids = EmployeeRegistry.ids();
+        return fetchAll().stream()
+                .filter(emp -> ids.contains(emp.getId()) || EmployeeNamespace.owns(emp))
+                .toList();
+    }
+
+    /**
+     * Deletes the current test's employees and starts a fresh namespace. Lists the tenant only
+     * when the test used a namespace prefix, to catch rows the registry did not see (e.g. added
+     * in the UI but never looked up); otherwise the registry ids alone are deleted.
+     *
+     * @return number of employees deleted
+     */
+    public static int deleteScoped() {
+        if (EmployeeNamespace.isActive()) {
+            getAllInScope().forEach(emp -> EmployeeRegistry.record(emp.getId()));
+        }
+        try {
+            return EmployeeRegistry.deleteCreated();
+        } finally {
+            EmployeeNamespace.reset();
+        }
     }
 
     public static void deleteAll() {
-        List<EmployeeResponse> employees = getAll();
+        if (CACHE.isEnabled()) {
+            LogHelper.info("Employee cache " + CACHE.stats());
+        }
+        CACHE.clear();
+        int concurrency = ConfigManager.getInt("CLEANUP_CONCURRENCY", 8);
+        if (concurrency > 1) {
+            deleteAllParallel(concurrency, ConfigManager.getInt("CLEANUP_REQUEST_TIMEOUT_SECONDS", 30));
+            return;
+        }
+
+        List<EmployeeResponse> employees = fetchAll();
         if (employees == null || employees.isEmpty()) {
-            Common.LogHelper.info("No employees to delete.");
+            LogHelper.info("No employees to delete.");
             return;
         }
 
         employees.forEach(emp -> deleteById(emp.getId()));
-        Common.LogHelper.info("All employees deleted. Count: " + employees.size());
+        LogHelper.info("All employees deleted. Count: " + employees.size());
+    }
+
+    /**
+     * Deletes every employee with at most {@code concurrency} requests in flight, then re-lists
+     * until the tenant is empty (up to CLEANUP_MAX_PASSES). A pass waits {@code requestTimeoutSeconds}
+     * per round of {@code concurrency} deletes, counted from its start, so deletes still queued
+     * behind slow ones are not reported as timed out. Failed deletes are collected and
+     * reported together; an exception is thrown only if rows are still left after the last pass.
+     */
+    public static void deleteAllParallel(int concurrency, int requestTimeoutSeconds) {
+        int maxPasses = ConfigManager.getInt("CLEANUP_MAX_PASSES", 3);
+        long start = System.nanoTime();
+        int deleted = 0;
+        Map<String, String> failures = new LinkedHashMap<>();
+
+        CACHE.clear();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (int pass = 1; pass <= maxPasses; pass++) {
+                long listStart = System.nanoTime();
+                List<EmployeeResponse> employees = fetchAll();
+                long listMs = (System.nanoTime() - listStart) / 1_000_000;
+
+                if (employees == null || employees.isEmpty()) {
+                    LogHelper.info("Cleanup finished: deleted=" + deleted + " passes=" + (pass - 1)
+                            + " failures=" + failures.size()
+                            + " totalMs=" + (System.nanoTime() - start) / 1_000_000);
+                    if (!failures.isEmpty()) {
+                        LogHelper.warn("Deletes that failed before a later pass succeeded: " + failures);
+                    }
+                    return;
+                }
+
+                long deleteStart = System.nanoTime();
+                // Deletes queue behind each other, so the pass gets one timeout per round of concurrent requests
+                long rounds = (employees.size() + concurrency - 1) / concurrency;
+                long passDeadline = deleteStart + TimeUnit.SECONDS.toNanos(requestTimeoutSeconds * rounds);
+                Map<String, Future<Response>> inFlight = new LinkedHashMap<>();
+                for (EmployeeResponse emp : employees) {
+                    String id = emp.getId();
+                    inFlight.put(id, pool.submit(() -> ApiHelper.delete("/api/Employees/" + id)));
+                }
+
+                for (Map.Entry<String, Future<Response>> entry : inFlight.entrySet()) {
+                    String error = awaitDelete(entry.getValue(), passDeadline);
+                    if (error == null) {
+                        deleted++;
+                        failures.remove(entry.getKey());
+                    } else {
+                        failures.put(entry.getKey(), error);
+                    }
+                }
+
+                LogHelper.info("Cleanup pass " + pass + ": listed=" + employees.size()
+                        + " listMs=" + listMs
+                        + " deleteMs=" + (System.nanoTime() - deleteStart) / 1_000_000
+                        + " concurrency=" + concurrency
+                        + " failures=" + failures.size());
+            }
+        } finally {
+            pool.shutdownNow();
+            CACHE.clear();
+        }
+
+        List<EmployeeResponse> remaining = fetchAll();
+        if (remaining != null && !remaining.isEmpty()) {
+            throw new IllegalStateException("Cleanup left " + remaining.size() + " employees after "
+                    + maxPasses + " passes. Failed deletes: " + failures);
+        }
+        LogHelper.info("Cleanup finished: deleted=" + deleted + " passes=" + maxPasses
+                + " totalMs=" + (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static String awaitDelete(Future<Response> future, long deadlineNanos) {
+        try {
+            int status = future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS).statusCode();
+            // 404 means another pass or test already removed it
+            return (status / 100 == 2 || status == 404) ? null : "HTTP " + status;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return "not finished by the end of the pass";
+        } catch (ExecutionException e) {
+            return String.valueOf(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
     }
 
     public static EmployeeResponse update(EmployeeUpdateRequest body) {
+        return update(body, false);
+    }
+
+    /**
+     * Like {@link #update(EmployeeUpdateRequest)}, but a missing body or a non-2xx status throws
+     * (with the status and response body) instead of being mapped, so bulk calls report it as a failure.
+     */
+    static EmployeeResponse updateOrThrow(EmployeeUpdateRequest body) {
+        return update(body, true);
+    }
+
+    private static EmployeeResponse update(EmployeeUpdateRequest body, boolean requireSuccess) {
         if (body == null || body.getId() == null || body.getId().isBlank()) {
-            Common.LogHelper.warn("Update called with null/invalid body or id, skipping");
+            if (requireSuccess) throw new IllegalArgumentException("Update called with null/invalid body or id");
+            LogHelper.warn("Update called with null/invalid body or id, skipping");
             return null;
         }
 
         Response resp = API.core.ApiHelper.put("/api/Employees", body);
+        CACHE.invalidate(body.getId());
+        if (requireSuccess) requireSuccess(resp, "update");
         try {
-            return MAPPER.readValue(resp.asByteArray(), EmployeeResponse.class);
+            return EMPLOYEE_READER.readValue(resp.asByteArray());
         } catch (Exception e) {
             throw new RuntimeException("Failed to map update employee response", e);
         }
     }
 
     public static EmployeeResponse create(EmployeeCreateRequest body) {
+        return create(body, false);
+    }
+
+    /**
+     * Like {@link #create(EmployeeCreateRequest)}, but a missing body or a non-2xx status throws
+     * (with the status and response body) instead of being mapped, so bulk calls report it as a failure.
+     */
+    static EmployeeResponse createOrThrow(EmployeeCreateRequest body) {
+        return create(body, true);
+    }
+
+    private static EmployeeResponse create(EmployeeCreateRequest body, boolean requireSuccess) {
         if (body == null) {
-            Common.LogHelper.warn("Create called with null body, skipping");
+            if (requireSuccess) throw new IllegalArgumentException("Create called with null body");
+            LogHelper.warn("Create called with null body, skipping");
             return null;
         }
         io.restassured.response.Response resp = API.core.ApiHelper.post("/api/Employees", body);
+        CACHE.invalidateList();
+        if (requireSuccess) requireSuccess(resp, "create");
+        EmployeeResponse created;
         try {
-            return MAPPER.readValue(resp.asByteArray(), EmployeeResponse.class);
+            created = EMPLOYEE_READER.readValue(resp.asByteArray());
         } catch (Exception e) {
             throw new RuntimeException("Failed to map create employee response", e);
         }
+        if (resp.statusCode() / 100 == 2) {
+            EmployeeRegistry.record(created.getId());
+        }
+        return created;
+    }
+
+    private static void requireSuccess(Response resp, String operation) {
+        if (resp.statusCode() / 100 != 2) {
+            throw new RuntimeException("Failed to " + operation + " employee: HTTP " + resp.statusCode() + " " + resp.asString());
+        }
+    }
+
+    /**
+     * Creates every body with EmployeeServiceAsync's bounded in-flight limit; results come back
+     * in input order with per-index failures instead of aborting on the first error.
+     */
+    public static BulkResult<EmployeeResponse> createAll(List<EmployeeCreateRequest> bodies) {
+        return runAll(bodies, EmployeeServiceAsync::create, "create");
+    }
+
+    public static BulkResult<EmployeeResponse> updateAll(List<EmployeeUpdateRequest> bodies) {
+        return runAll(bodies, EmployeeServiceAsync::update, "update");
+    }
+
+    private static <I> BulkResult<EmployeeResponse> runAll(List<I> inputs,
+                                                           Function<I, CompletableFuture<EmployeeResponse>> call,
+                                                           String operation) {
+        long start = System.nanoTime();
+        List<CompletableFuture<EmployeeResponse>> futures = new ArrayList<>(inputs.size());
+        for (I input : inputs) {
+            futures.add(call.apply(input));
+        }
+        BulkResult<EmployeeResponse> result = BulkResult.collect(futures);
+
+        LogHelper.info("Bulk " + operation + ": requested=" + inputs.size()
+                + " succeeded=" + result.successCount()
+                + " failed=" + result.getFailures().size()
+                + " inFlight=" + EmployeeServiceAsync.maxInFlight()
+                + " ms=" + (System.nanoTime() - start) / 1_000_000);
+        result.getFailures().forEach((index, error) ->
+                LogHelper.warn("Bulk " + operation + " failed at index " + index + ": " + error));
+        return result;
+    }
+
+    /**
+     * Replays an NDJSON dataset (see EmployeeDataFactory.writeDataset) through {@link #createAll}
+     * one batch at a time, so only {@code batchSize} rows are held in memory. Failed rows are
+     * counted and logged, not retried.
+     */
+    public static DatasetLoadReport loadDataset(Path file, int batchSize) {
+        long start = System.nanoTime();
+        long rows = 0;
+        long created = 0;
+        List<EmployeeCreateRequest> batch = new ArrayList<>(batchSize);
+        try (InputStream in = Files.newInputStream(file);
+             MappingIterator<EmployeeCreateRequest> it = MAPPER.readerFor(EmployeeCreateRequest.class).readValues(in)) {
+            while (it.hasNext()) {
+                batch.add(it.next());
+                if (batch.size() == batchSize || !it.hasNext()) {
+                    rows += batch.size();
+                    created += createAll(batch).successCount();
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read dataset " + file, e);
+        }
+        DatasetLoadReport report = new DatasetLoadReport(rows, created, rows - created,
+                (System.nanoTime() - start) / 1_000_000);
+        LogHelper.info("Loaded dataset " + file + ": " + report);
+        return report;
     }
 
     public static Response getAllRaw(boolean withAuth) {
@@ -0,0 +1,63 @@
+package API.services;
+
+import API.models.employees.EmployeeCreateRequest;
+import API.models.employees.EmployeeUpdateRequest;
+import API.responses.employees.EmployeeResponse;
+import UI.core.ConfigManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}. Calls run on a fixed pool of
+ * API_ASYNC_MAX_IN_FLIGHT daemon threads sharing ApiHelper's pooled connections, so at most that
+ * many requests are in flight; the rest wait in the executor queue. Tasks run in the caller's
+ * {@link EmployeeRegistry} scope. Creates and updates complete exceptionally on a non-2xx status.
+ */
+public final class EmployeeServiceAsync {
+
+    private static final int MAX_IN_FLIGHT = ConfigManager.getInt("API_ASYNC_MAX_IN_FLIGHT", 16);
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(MAX_IN_FLIGHT, daemonThreads());
+
+    private EmployeeServiceAsync() {}
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "employee-async-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    public static int maxInFlight() {
+        return MAX_IN_FLIGHT;
+    }
+
+    public static CompletableFuture<List<EmployeeResponse>> getAll() {
+        return CompletableFuture.supplyAsync(EmployeeRegistry.inCurrentScope(EmployeeService::getAll), EXECUTOR);
+    }
+
+    public static CompletableFuture<EmployeeResponse> getById(String id) {
+        return CompletableFuture.supplyAsync(EmployeeRegistry.inCurrentScope(() -> EmployeeService.getById(id)), EXECUTOR);
+    }
+
+    public static CompletableFuture<EmployeeResponse> create(EmployeeCreateRequest body) {
+        return CompletableFuture.supplyAsync(EmployeeRegistry.inCurrentScope(() -> EmployeeService.createOrThrow(body)), EXECUTOR);
+    }
+
+    public static CompletableFuture<EmployeeResponse> update(EmployeeUpdateRequest body) {
+        return CompletableFuture.supplyAsync(EmployeeRegistry.inCurrentScope(() -> EmployeeService.updateOrThrow(body)), EXECUTOR);
+    }
+
+    public static CompletableFuture<Void> deleteById(String id) {
+        return CompletableFuture.supplyAsync(EmployeeRegistry.inCurrentScope(() -> {
+            EmployeeService.deleteById(id);
+            return (Void) null;
+        }), EXECUTOR);
+    }
+}
@@ -0,0 +1,354 @@
+package API.stub;
+
+import API.benefits.BenefitsCalculator;
+import API.responses.employees.EmployeeResponse;
+import Common.LogHelper;
+import UI.core.ConfigManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory stand-in for the Employees API, served by the JDK's HttpServer. It speaks the same
+ * JSON as {@link EmployeeResponse} and prices employees with {@link BenefitsCalculator}, the
+ * same rules the suites assert.
+ * Validation errors use the API's {@code [{"errorMessage": ...}]} shape.
+ * <p>
+ * ApiHelper starts the shared instance when API_STUB=true; {@link #main} runs it standalone
+ * (port API_STUB_PORT) as a local target for the load driver.
+ */
+public final class EmployeeApiStub {
+
+    private static final String PATH = "/api/Employees";
+    private static final Pattern NAME_CONTROL_CHARS = Pattern.compile("[\\p{Cntrl}]|\\\\[ntr]");
+    private static final Set<String> KNOWN_FIELDS = Set.of(
+            "id", "username", "firstName", "lastName", "dependants", "salary",
+            "partitionKey", "sortKey", "expiration", "gross", "benefitsCost", "net");
+
+    private static volatile EmployeeApiStub shared;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, EmployeeResponse> employees = new ConcurrentHashMap<>();
+    private final String authCode;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public EmployeeApiStub(String authCode) {
+        this.authCode = authCode;
+    }
+
+    /**
+     * Lazily started process-wide instance, stopped on JVM shutdown.
+     */
+    public static EmployeeApiStub shared() {
+        if (shared == null) {
+            synchronized (EmployeeApiStub.class) {
+                if (shared == null) {
+                    EmployeeApiStub stub = new EmployeeApiStub(ConfigManager.getProperty("AUTH_CODE"));
+                    stub.start(ConfigManager.getInt("API_STUB_PORT", 0));
+                    Runtime.getRuntime().addShutdownHook(new Thread(stub::stop, "api-stub-stop"));
+                    shared = stub;
+                }
+            }
+        }
+        return shared;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        EmployeeApiStub stub = shared();
+        LogHelper.warn("Employees API stub listening on " + stub.baseUrl() + ", Ctrl+C to stop");
+        Thread.currentThread().join();
+    }
+
+    public synchronized EmployeeApiStub start(int port) {
+        if (server != null) return this;
+        try {
+            // Without this the JDK server delays small keep-alive responses by ~40ms (Nagle)
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start Employees API stub", e);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(ConfigManager.getInt("API_STUB_THREADS", 16), r -> {
+            Thread t = new Thread(r, "api-stub-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+
+        // The dispatcher thread inherits daemon status from the thread that starts the server,
+        // so an embedded stub never keeps the JVM alive on its own
+        Thread starter = new Thread(server::start, "api-stub-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting Employees API stub", e);
+        }
+        LogHelper.info("Employees API stub started at " + baseUrl());
+        return this;
+    }
+
+    public synchronized void stop() {
+        if (server == null) return;
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void clear() {
+        employees.clear();
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Stores an employee directly, bypassing HTTP, e.g. to seed data for a test or benchmark.
+     */
+    public EmployeeResponse add(String username, String firstName, String lastName, int dependants, int salary) {
+        EmployeeResponse e = new EmployeeResponse();
+        e.setId(UUID.randomUUID().toString());
+        e.setUsername(username);
+        e.setFirstName(firstName);
+        e.setLastName(lastName);
+        e.setDependants(dependants);
+        e.setSalary(salary);
+        price(e);
+        employees.put(e.getId(), e);
+        return e;
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try {
+            String auth = ex.getRequestHeaders().getFirst("Authorization");
+            if (auth == null || authCode != null && !authCode.equals(auth)) {
+                send(ex, 401, null);
+                return;
+            }
+
+            String path = ex.getRequestURI().getPath();
+            String id = path.length() > PATH.length() + 1 ? path.substring(PATH.length() + 1) : null;
+            switch (ex.getRequestMethod()) {
+                case "GET" -> {
+                    if (id == null) list(ex);
+                    else getById(ex, id);
+                }
+                case "POST" -> create(ex);
+                case "PUT" -> update(ex);
+                case "DELETE" -> delete(ex, id);
+                default -> send(ex, 405, null);
+            }
+        } catch (RuntimeException e) {
+            LogHelper.error("Employees API stub failed: " + e);
+            send(ex, 500, errors("Internal error: " + e.getMessage()));
+        } finally {
+            ex.close();
+        }
+    }
+
+    private void list(HttpExchange ex) throws IOException {
+        send(ex, 200, mapper.writeValueAsBytes(new ArrayList<>(employees.values())));
+    }
+
+    private void getById(HttpExchange ex, String id) throws IOException {
+        if (!isUuid(id)) {
+            send(ex, 400, errors("Invalid id: " + id));
+            return;
+        }
+        EmployeeResponse e = employees.get(id);
+        if (e == null) {
+            send(ex, 404, errors("Employee not found: " + id));
+            return;
+        }
+        send(ex, 200, mapper.writeValueAsBytes(e));
+    }
+
+    private void create(HttpExchange ex) throws IOException {
+        JsonNode body = readJson(ex);
+        if (body == null) return;
+
+        String error = validate(body, true);
+        if (error != null) {
+            send(ex, 400, errors(error));
+            return;
+        }
+
+        EmployeeResponse e = add(
+                text(body, "username"),
+                text(body, "firstName"),
+                text(body, "lastName"),
+                body.path("dependants").asInt(0),
+                body.hasNonNull("salary") ? body.get("salary").asInt() : BenefitsCalculator.DEFAULT_SALARY);
+        send(ex, 200, mapper.writeValueAsBytes(e));
+    }
+
+    private void update(HttpExchange ex) throws IOException {
+        JsonNode body = readJson(ex);
+        if (body == null) return;
+
+        String id = text(body, "id");
+        if (!isUuid(id)) {
+            send(ex, 400, errors("Invalid id: " + id));
+            return;
+        }
+        String error = validate(body, false);
+        if (error != null) {
+            send(ex, 400, errors(error));
+            return;
+        }
+
+        EmployeeResponse e = employees.computeIfPresent(id, (key, existing) -> {
+            EmployeeResponse updated = new EmployeeResponse();
+            updated.setId(id);
+            updated.setUsername(body.hasNonNull("username") ? text(body, "username") : existing.getUsername());
+            updated.setFirstName(body.hasNonNull("firstName") ? text(body, "firstName") : existing.getFirstName());
+            updated.setLastName(body.hasNonNull("lastName") ? text(body, "lastName") : existing.getLastName());
+            updated.setDependants(body.hasNonNull("dependants") ? body.get("dependants").asInt() : existing.getDependants());
+            updated.setSalary(body.hasNonNull("salary") ? body.get("salary").asInt() : existing.getSalary());
+            price(updated);
+            return updated;
+        });
+        if (e == null) {
+            send(ex, 404, errors("Employee not found: " + id));
+            return;
+        }
+        send(ex, 200, mapper.writeValueAsBytes(e));
+    }
+
+    private void delete(HttpExchange ex, String id) throws IOException {
+        if (!isUuid(id)) {
+            send(ex, 400, errors("Invalid id: " + id));
+            return;
+        }
+        if (employees.remove(id) == null) {
+            send(ex, 404, errors("Employee not found: " + id));
+            return;
+        }
+        send(ex, 200, null);
+    }
+
+    private JsonNode readJson(HttpExchange ex) throws IOException {
+        String contentType = ex.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.toLowerCase().contains("json")) {
+            send(ex, 415, null);
+            return null;
+        }
+        try {
+            JsonNode body = mapper.readTree(ex.getRequestBody());
+            if (body == null || !body.isObject()) {
+                send(ex, 400, errors("Request body must be a JSON object"));
+                return null;
+            }
+            return body;
+        } catch (JsonProcessingException e) {
+            send(ex, 400, errors("Malformed JSON: " + e.getOriginalMessage()));
+            return null;
+        }
+    }
+
+    private static String validate(JsonNode body, boolean creating) {
+        for (var it = body.fieldNames(); it.hasNext(); ) {
+            String field = it.next();
+            if (!KNOWN_FIELDS.contains(field)) {
+                return "Unknown property '" + field + "' is not allowed";
+            }
+        }
+
+        String first = text(body, "firstName");
+        String last = text(body, "lastName");
+        if (creating || body.has("firstName")) {
+            if (first == null || first.isBlank()) return "The FirstName field is required.";
+        }
+        if (creating || body.has("lastName")) {
+            if (last == null || last.isBlank()) return "The LastName field is required.";
+        }
+        for (String name : new String[]{first, last}) {
+            if (name == null) continue;
+            if (name.length() > 50) return "First/Last name must be 50 characters or fewer.";
+            if (NAME_CONTROL_CHARS.matcher(name).find()) return "Name contains invalid characters.";
+        }
+
+        JsonNode deps = body.get("dependants");
+        if (deps != null && !deps.isNull()) {
+            if (!deps.isIntegralNumber()) return "The field Dependants must be an integer.";
+            if (deps.asInt() < 0 || deps.asInt() > 32) return "The field Dependants must be between 0 and 32.";
+        }
+
+        JsonNode salary = body.get("salary");
+        if (salary != null && !salary.isNull()) {
+            if (!salary.isIntegralNumber()) return "The field Salary must be an integer.";
+            if (salary.asInt() < 0) return "The field Salary must be a non-negative number.";
+        }
+        return null;
+    }
+
+    private static void price(EmployeeResponse e) {
+        BenefitsCalculator.Paycheck pay = BenefitsCalculator.expected(e.getSalary(), e.getDependants());
+        e.setPartitionKey(e.getUsername());
+        e.setSortKey(e.getId());
+        e.setExpiration(OffsetDateTime.now(ZoneOffset.UTC).plusYears(1).toString());
+        e.setGross(pay.gross());
+        e.setBenefitsCost(pay.benefitsCost());
+        e.setNet(pay.net());
+    }
+
+    private static boolean isUuid(String id) {
+        if (id == null) return false;
+        try {
+            return UUID.fromString(id).toString().equalsIgnoreCase(id);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String text(JsonNode body, String field) {
+        JsonNode node = body.get(field);
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    private byte[] errors(String message) throws IOException {
+        ObjectNode error = mapper.createObjectNode().put("errorMessage", message);
+        return mapper.writeValueAsBytes(List.of(error));
+    }
+
+    private static void send(HttpExchange ex, int status, byte[] body) throws IOException {
+        if (body == null) {
+            ex.sendResponseHeaders(status, -1);
+            return;
+        }
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package Common;
 
+import UI.core.ConfigManager;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 public class LogHelper {
 
     private static final Logger log = LoggerFactory.getLogger(LogHelper.class);
@@ -28,16 +34,44 @@ public class LogHelper {
         log.error(message);
     }
 
+    /**
+     * Serializes {@code obj} on the calling thread, so later changes to it never reach the log;
+     * only the resulting string is handed to the writer.
+     */
     public static void pretty(Object obj) {
+        if (!log.isInfoEnabled() || obj == null) return;
+        String json;
         try {
-            String json = mapper.writeValueAsString(obj);
-            log.info("\n{}", json);
+            json = mapper.writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             log.error("Failed to convert object to JSON", e);
+            return;
         }
+        Body.submit(() -> log.info("\n{}", Body.truncate(json)));
     }
 
     public static void prettyJson(String jsonString) {
+        if (!log.isInfoEnabled()) return;
+        Body.submit(() -> formatJson(jsonString));
+    }
+
+    /**
+     * Same as {@link #prettyJson(String)}, but the body is only read when INFO is enabled.
+     */
+    public static void prettyJson(Supplier<String> jsonString) {
+        if (!log.isInfoEnabled()) return;
+        prettyJson(jsonString.get());
+    }
+
+    public static long droppedBodies() {
+        return Body.dropped.get();
+    }
+
+    private static void formatJson(String jsonString) {
+        if (jsonString != null && jsonString.length() > Body.maxChars) {
+            log.info("\n{}", Body.truncate(jsonString));
+            return;
+        }
         try {
             Object json = mapper.readValue(jsonString, Object.class);
             log.info("\n{}", mapper.writeValueAsString(json));
@@ -45,4 +79,62 @@ public class LogHelper {
             log.error("Invalid JSON string", e);
         }
     }
+
+    /**
+     * Body logging settings and the background writer. Loaded on first body log, after
+     * ConfigManager (which itself logs through this class) has finished initializing.
+     * With LOG_ASYNC the request thread only enqueues; when the ring buffer is full the body is
+     * dropped and counted rather than blocking the caller.
+     */
+    private static final class Body {
+        static final int maxChars = ConfigManager.getInt("LOG_MAX_BODY_CHARS", 8192);
+        static final boolean async = Boolean.parseBoolean(ConfigManager.getProperty("LOG_ASYNC"));
+        static final BlockingQueue<Runnable> queue =
+                new ArrayBlockingQueue<>(ConfigManager.getInt("LOG_QUEUE_CAPACITY", 1024));
+        static final AtomicLong dropped = new AtomicLong();
+
+        static {
+            if (async) {
+                Thread writer = new Thread(Body::drain, "log-writer");
+                writer.setDaemon(true);
+                writer.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(Body::flush, "log-flush"));
+            }
+        }
+
+        static void submit(Runnable task) {
+            if (!async) {
+                task.run();
+            } else if (!queue.offer(task)) {
+                dropped.incrementAndGet();
+            }
+        }
+
+        static String truncate(String body) {
+            if (body == null || body.length() <= maxChars) return body;
+            return body.substring(0, maxChars) + "... (" + (body.length() - maxChars) + " more chars truncated)";
+        }
+
+        private static void drain() {
+            while (true) {
+                try {
+                    queue.take().run();
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Failed to write log body", e);
+                }
+            }
+        }
+
+        private static void flush() {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                task.run();
+            }
+            if (dropped.get() > 0) {
+                log.warn("{} log bodies were dropped because the log queue was full", dropped.get());
+            }
+        }
+    }
 }
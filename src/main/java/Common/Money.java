@@ -0,0 +1,189 @@
+package Common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable amount in whole cents. Parses table text ("$1,923.08", " 76.92 ") without building
+ * intermediate strings or BigDecimals, and rounds doubles half-up to the cent exactly like
+ * {@code BigDecimal.valueOf(x).setScale(2, HALF_UP)}; only amounts next to a tie take the
+ * BigDecimal path.
+ * Division rounds half-up as well, so {@code times(26)} / {@code dividedBy(26)} convert between
+ * per-paycheck and annual figures with the same rounding as the UI.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    // Fractions this many ulps from .5 may be ties the multiplication blurred (1.005 * 100 = 100.49999999999999)
+    private static final int TIE_WINDOW_ULPS = 4;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    public static Money of(double amount) {
+        return ofCents(roundToCents(amount));
+    }
+
+    /**
+     * @return {@code null} for a {@code null} amount, like an absent JSON field
+     */
+    public static Money ofNullable(Double amount) {
+        return amount == null ? null : of(amount);
+    }
+
+    /**
+     * @return {@code null} for null or blank text
+     * @throws NumberFormatException if the text is not an amount
+     */
+    public static Money parse(CharSequence text) {
+        if (text == null || isBlank(text)) return null;
+        return ofCents(parseCents(text));
+    }
+
+    /**
+     * Parses an amount to cents without allocating. Accepts surrounding whitespace, a leading
+     * sign, a '$' and ',' group separators; digits past the second decimal round half-up.
+     */
+    public static long parseCents(CharSequence text) {
+        int i = 0;
+        int end = text.length();
+        while (i < end && Character.isWhitespace(text.charAt(i))) i++;
+        while (end > i && Character.isWhitespace(text.charAt(end - 1))) end--;
+
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        if (i < end && text.charAt(i) == '$') i++;
+
+        long units = 0;
+        int digits = 0;
+        for (; i < end && text.charAt(i) != '.'; i++) {
+            char c = text.charAt(i);
+            if (c == ',') continue;
+            if (c < '0' || c > '9') throw invalid(text);
+            units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+            digits++;
+        }
+
+        long fraction = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        if (i < end) {
+            for (i++; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') throw invalid(text);
+                if (fractionDigits < 2) {
+                    fraction = fraction * 10 + (c - '0');
+                } else if (fractionDigits == 2) {
+                    roundUp = c >= '5';
+                }
+                fractionDigits++;
+            }
+        }
+        if (digits == 0 && fractionDigits == 0) throw invalid(text);
+        if (fractionDigits == 1) fraction *= 10;
+
+        long cents = Math.addExact(Math.multiplyExact(units, 100), fraction + (roundUp ? 1 : 0));
+        return negative ? -cents : cents;
+    }
+
+    public long cents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long factor) {
+        return ofCents(Math.multiplyExact(cents, factor));
+    }
+
+    /**
+     * Divides and rounds half-up (away from zero on a tie).
+     */
+    public Money dividedBy(long divisor) {
+        long quotient = cents / divisor;
+        long remainder = cents % divisor;
+        if (Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += (cents < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return ofCents(quotient);
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public double toDouble() {
+        return cents / 100.0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Money m && m.cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        return (cents < 0 ? "-" : "") + abs / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    private static long roundToCents(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new ArithmeticException("Not a finite amount: " + amount);
+        }
+        double abs = Math.abs(amount);
+        double scaled = abs * 100;
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        long rounded;
+        if (Math.abs(fraction - 0.5) <= TIE_WINDOW_ULPS * Math.ulp(scaled)) {
+            rounded = BigDecimal.valueOf(abs).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } else {
+            rounded = (long) floor + (fraction > 0.5 ? 1 : 0);
+        }
+        return amount < 0 ? -rounded : rounded;
+    }
+
+    private static boolean isBlank(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static NumberFormatException invalid(CharSequence text) {
+        return new NumberFormatException("Not a money amount: '" + text + "'");
+    }
+}
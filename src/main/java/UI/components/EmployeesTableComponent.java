@@ -1,14 +1,17 @@
 package UI.components;
 
+import API.services.EmployeeRegistry;
+import Common.LogHelper;
+import Common.Money;
 import UI.core.EmployeeTableColumn;
 import UI.core.BaseUI;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 
-import java.math.BigDecimal;
-
 public class EmployeesTableComponent extends BaseUI {
 
     @FindBy(id = "employeesTable")
@@ -19,145 +22,133 @@ public class EmployeesTableComponent extends BaseUI {
         PageFactory.initElements(driver, this);
     }
 
+    /**
+     * Waits for the row and records its id for per-test cleanup.
+     */
     public void waitUntilRowPresent(String firstName, String lastName) {
-        rowByName(firstName, lastName);
+        getId(firstName, lastName);
+    }
+
+    /**
+     * Reads every row of the table with one script call.
+     */
+    public EmployeesTableSnapshot snapshot() {
+        return EmployeesTableSnapshot.of(((JavascriptExecutor) driver)
+                .executeScript(EmployeesTableSnapshot.SCRIPT, EmployeeTableColumn.ACTIONS.getIndex()));
+    }
+
+    /**
+     * Waits until the row is in the table, see {@link #awaitRows}.
+     */
+    public EmployeesTableSnapshot.Row row(String firstName, String lastName) {
+        EmployeesTableSnapshot snapshot = awaitRows(firstName, lastName, true);
+        EmployeesTableSnapshot.Row row = snapshot == null ? null : snapshot.byName(firstName, lastName);
+        if (row == null) {
+            throw new org.openqa.selenium.NoSuchElementException(
+                    "No employee row for '" + firstName + "' '" + lastName + "' in #employeesTable");
+        }
+        return row;
     }
 
-    private WebElement rowByName(String firstName, String lastName) {
-        waitUntilVisible(table);
-
-        String xpCorrect = String.format(
-                ".//tbody/tr[td[%d][normalize-space(text())='%s'] and td[%d][normalize-space(text())='%s']]",
-                EmployeeTableColumn.LAST_NAME.getIndex(), lastName,
-                EmployeeTableColumn.FIRST_NAME.getIndex(), firstName
-        );
-
-        String xpSwapped = String.format(
-                ".//tbody/tr[td[%d][normalize-space(text())='%s'] and td[%d][normalize-space(text())='%s']]",
-                EmployeeTableColumn.LAST_NAME.getIndex(), firstName,
-                EmployeeTableColumn.FIRST_NAME.getIndex(), lastName
-        );
-
+    /**
+     * Waits until a row with these names is present (or absent) and returns the table at that
+     * moment, or {@code null} after WAIT_TIMEOUT. A MutationObserver in the page re-checks on every
+     * DOM change, so this returns as soon as the table updates; on the observer's timeout the
+     * table is read once more, and if the async script cannot run it falls back to polling
+     * {@link #snapshot()}.
+     */
+    private EmployeesTableSnapshot awaitRows(String firstName, String lastName, boolean present) {
         try {
-            return wait.until(
-                    org.openqa.selenium.support.ui.ExpectedConditions
-                            .presenceOfNestedElementLocatedBy(table, By.xpath(xpCorrect))
-            );
-        } catch (org.openqa.selenium.TimeoutException ignored) {
-            return wait.until(
-                    org.openqa.selenium.support.ui.ExpectedConditions
-                            .presenceOfNestedElementLocatedBy(table, By.xpath(xpSwapped))
-            );
+            Object rows = ((JavascriptExecutor) driver).executeAsyncScript(EmployeesTableSnapshot.AWAIT_SCRIPT,
+                    firstName, lastName, present,
+                    EmployeeTableColumn.ACTIONS.getIndex(),
+                    EmployeeTableColumn.FIRST_NAME.getIndex(),
+                    EmployeeTableColumn.LAST_NAME.getIndex(),
+                    WAIT_TIMEOUT.toMillis());
+            if (rows != null) return EmployeesTableSnapshot.of(rows);
+            // The observer saw no matching change; read the table once more before giving up
+            EmployeesTableSnapshot snapshot = snapshot();
+            return (snapshot.byName(firstName, lastName) != null) == present ? snapshot : null;
+        } catch (WebDriverException e) {
+            LogHelper.warn("MutationObserver wait failed, polling the table instead: " + e.getMessage());
+        }
+        try {
+            return wait.until(d -> {
+                EmployeesTableSnapshot snapshot = snapshot();
+                return (snapshot.byName(firstName, lastName) != null) == present ? snapshot : null;
+            });
+        } catch (org.openqa.selenium.TimeoutException e) {
+            return null;
         }
-    }
-
-    private WebElement cell(WebElement row, EmployeeTableColumn col) {
-        return row.findElement(By.xpath("./td[" + col.getIndex() + "]"));
-    }
-
-    private BigDecimal toMoney(String s) {
-        if (s == null || s.isBlank()) return null;
-        return new BigDecimal(s.trim());
     }
 
     public String getId(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        return cell(r, EmployeeTableColumn.ID).getText().trim();
+        String id = row(firstName, lastName).id();
+        EmployeeRegistry.record(id);
+        return id;
     }
 
-    public BigDecimal getGrossPay(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        return toMoney(cell(r, EmployeeTableColumn.GROSS_PAY).getText());
+    public Money getGrossPay(String firstName, String lastName) {
+        return row(firstName, lastName).grossPay();
     }
 
-    public BigDecimal getBenefitsCost(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        return toMoney(cell(r, EmployeeTableColumn.BENEFITS_COST).getText());
+    public Money getBenefitsCost(String firstName, String lastName) {
+        return row(firstName, lastName).benefitsCost();
     }
 
-    public BigDecimal getNetPay(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        return toMoney(cell(r, EmployeeTableColumn.NET_PAY).getText());
+    public Money getNetPay(String firstName, String lastName) {
+        return row(firstName, lastName).netPay();
     }
 
     public int getDependents(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        return Integer.parseInt(cell(r, EmployeeTableColumn.DEPENDENTS).getText().trim());
+        return row(firstName, lastName).dependents();
     }
 
-    public BigDecimal getSalary(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        return toMoney(cell(r, EmployeeTableColumn.SALARY).getText());
+    public Money getSalary(String firstName, String lastName) {
+        return row(firstName, lastName).salary();
     }
 
     public String getFirstNameText(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        return cell(r, UI.core.EmployeeTableColumn.FIRST_NAME).getText().trim();
+        return row(firstName, lastName).firstName();
     }
 
     public String getLastNameText(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        return cell(r, UI.core.EmployeeTableColumn.LAST_NAME).getText().trim();
+        return row(firstName, lastName).lastName();
     }
 
     public void clickEdit(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        WebElement editIcon = cell(r, EmployeeTableColumn.ACTIONS)
-                .findElement(By.cssSelector("i.fa-edit"));
-        click(editIcon);
+        click(actionIcon(firstName, lastName, "fa-edit"));
     }
 
     public void clickDelete(String firstName, String lastName) {
-        WebElement r = rowByName(firstName, lastName);
-        WebElement delIcon = cell(r, EmployeeTableColumn.ACTIONS)
-                .findElement(By.cssSelector("i.fa-times"));
-        click(delIcon);
+        click(actionIcon(firstName, lastName, "fa-times"));
     }
 
-    private String rowXpathAnyOrder(String firstName, String lastName) {
-        return String.format(
-                ".//tbody/tr[ (td[%d][normalize-space(text())='%s'] and td[%d][normalize-space(text())='%s'])" +
-                        " or (td[%d][normalize-space(text())='%s'] and td[%d][normalize-space(text())='%s']) ]",
-                EmployeeTableColumn.LAST_NAME.getIndex(), lastName,
-                EmployeeTableColumn.FIRST_NAME.getIndex(), firstName,
-                EmployeeTableColumn.LAST_NAME.getIndex(), firstName,
-                EmployeeTableColumn.FIRST_NAME.getIndex(), lastName
-        );
+    /**
+     * Finds the row through {@link #row} (so swapped names cost no extra wait), then locates its
+     * action icon by the row's id.
+     */
+    private WebElement actionIcon(String firstName, String lastName, String iconClass) {
+        String id = row(firstName, lastName).id();
+        return table.findElement(By.xpath(String.format(
+                ".//tbody/tr[td[%d][normalize-space()='%s']]/td[%d]//i[contains(concat(' ', @class, ' '), ' %s ')]",
+                EmployeeTableColumn.ID.getIndex(), id, EmployeeTableColumn.ACTIONS.getIndex(), iconClass)));
     }
 
     public boolean rowExists(String firstName, String lastName) {
         waitUntilVisible(table);
-        String xp = rowXpathAnyOrder(firstName, lastName);
-        return !table.findElements(By.xpath(xp)).isEmpty();
+        return snapshot().byName(firstName, lastName) != null;
     }
 
     public boolean waitUntilRowAbsent(String firstName, String lastName) {
-        String xp = rowXpathAnyOrder(firstName, lastName);
-        try {
-            return wait.until(d -> table.findElements(By.xpath(xp)).isEmpty());
-        } catch (org.openqa.selenium.TimeoutException e) {
-            return false;
-        }
+        return awaitRows(firstName, lastName, false) != null;
     }
 
     public boolean isDeleteActionVisible(String firstName, String lastName) {
         try {
             waitUntilVisible(table);
-
-            String xpRow = String.format(
-                    ".//tbody/tr[(td[%d][normalize-space(text())='%s'] and td[%d][normalize-space(text())='%s'])" +
-                            " or (td[%d][normalize-space(text())='%s'] and td[%d][normalize-space(text())='%s'])]",
-                    EmployeeTableColumn.LAST_NAME.getIndex(), lastName,
-                    EmployeeTableColumn.FIRST_NAME.getIndex(), firstName,
-                    EmployeeTableColumn.LAST_NAME.getIndex(), firstName,
-                    EmployeeTableColumn.FIRST_NAME.getIndex(), lastName
-            );
-            java.util.List<org.openqa.selenium.WebElement> rows = table.findElements(org.openqa.selenium.By.xpath(xpRow));
-            if (rows.isEmpty()) return false;
-
-            org.openqa.selenium.WebElement r = rows.get(0);
-            return !r.findElements(org.openqa.selenium.By.cssSelector("td:nth-child("
-                    + EmployeeTableColumn.ACTIONS.getIndex() + ") i.fa-times")).isEmpty();
+            EmployeesTableSnapshot.Row row = snapshot().byName(firstName, lastName);
+            return row != null && row.hasDeleteAction();
         } catch (Exception e) {
             return false;
         }
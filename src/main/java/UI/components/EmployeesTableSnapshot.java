@@ -0,0 +1,159 @@
+package UI.components;
+
+import Common.Money;
+import UI.core.EmployeeTableColumn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Cell texts of every #employeesTable row, read in one script call by
+ * {@link EmployeesTableComponent#snapshot()} and indexed by id and by (first, last) name. Texts are
+ * whitespace-normalized like XPath {@code normalize-space()}; typed values are parsed on access.
+ */
+public final class EmployeesTableSnapshot {
+
+    private static final String READ_ROWS = """
+            const norm = s => s.replace(/\\s+/g, ' ').trim();
+            const readRows = actionsIndex => {
+              const table = document.getElementById('employeesTable');
+              if (!table) return [];
+              const rows = [];
+              for (const tr of table.querySelectorAll('tbody > tr')) {
+                const cells = [];
+                for (const td of tr.cells) cells.push(norm(td.textContent));
+                cells.push(tr.querySelector('td:nth-child(' + actionsIndex + ') i.fa-times') ? 'true' : 'false');
+                rows.push(cells);
+              }
+              return rows;
+            };
+            """;
+
+    /**
+     * Args: actions column index. Returns the rows.
+     */
+    static final String SCRIPT = READ_ROWS + "return readRows(arguments[0]);";
+
+    /**
+     * Async script. Args: first name, last name, whether to wait for presence (true) or absence,
+     * actions/first/last column indexes, timeout in ms. Resolves with the rows as soon as the
+     * condition holds, checking again on every DOM mutation, or with null on timeout. Observes the
+     * table's parent so a re-rendered table element is seen as well.
+     */
+    static final String AWAIT_SCRIPT = READ_ROWS + """
+            const [first, last, present, actionsIndex, firstCol, lastCol, timeoutMs, done] = arguments;
+            const f = norm(first), l = norm(last);
+            const holds = rows => rows.some(c =>
+                (c[firstCol - 1] === f && c[lastCol - 1] === l) || (c[firstCol - 1] === l && c[lastCol - 1] === f)) === present;
+            let finished = false, observer, timer;
+            const finish = rows => {
+              finished = true;
+              if (observer) observer.disconnect();
+              clearTimeout(timer);
+              done(rows);
+            };
+            const check = () => {
+              if (finished) return;
+              const rows = readRows(actionsIndex);
+              if (holds(rows)) finish(rows);
+            };
+            check();
+            if (!finished) {
+              const table = document.getElementById('employeesTable');
+              observer = new MutationObserver(check);
+              observer.observe((table && table.parentNode) || document.body,
+                  {childList: true, subtree: true, characterData: true});
+              timer = setTimeout(() => { if (!finished) finish(null); }, timeoutMs);
+            }
+            """;
+
+    // JavaScript's \s, which unlike Java's also covers NBSP and the other Unicode spaces
+    private static final Pattern WHITESPACE =
+            Pattern.compile("[\\t\\n\\x0B\\f\\r \\u00A0\\u1680\\u2000-\\u200A\\u2028\\u2029\\u202F\\u205F\\u3000\\uFEFF]+");
+
+    private final List<Row> rows;
+    private final Map<String, Row> byId = new HashMap<>();
+    private final Map<String, Row> byName = new HashMap<>();
+
+    EmployeesTableSnapshot(List<Row> rows) {
+        this.rows = Collections.unmodifiableList(rows);
+        for (Row row : rows) {
+            // First row wins, like the XPath lookups it replaces
+            byId.putIfAbsent(row.id(), row);
+            byName.putIfAbsent(nameKey(row.firstName(), row.lastName()), row);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static EmployeesTableSnapshot of(Object scriptResult) {
+        List<Row> rows = new ArrayList<>();
+        if (scriptResult instanceof List<?> list) {
+            for (Object cells : list) {
+                List<Object> values = (List<Object>) cells;
+                String[] texts = new String[EmployeeTableColumn.values().length];
+                for (int i = 0; i < texts.length; i++) {
+                    texts[i] = i < values.size() - 1 ? String.valueOf(values.get(i)) : "";
+                }
+                rows.add(new Row(texts, Boolean.parseBoolean(String.valueOf(values.get(values.size() - 1)))));
+            }
+        }
+        return new EmployeesTableSnapshot(rows);
+    }
+
+    public List<Row> rows() {
+        return rows;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    public Row byId(String id) {
+        return byId.get(id);
+    }
+
+    /**
+     * @return the row with these names, also matching them swapped between the two columns
+     * (a known UI bug the tests report on), or {@code null}
+     */
+    public Row byName(String firstName, String lastName) {
+        Row row = byName.get(nameKey(firstName, lastName));
+        return row != null ? row : byName.get(nameKey(lastName, firstName));
+    }
+
+    private static String nameKey(String firstName, String lastName) {
+        return normalize(firstName) + '\u0000' + normalize(lastName);
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    public static final class Row {
+        private final String[] cells;
+        private final boolean deleteAction;
+
+        Row(String[] cells, boolean deleteAction) {
+            this.cells = cells;
+            this.deleteAction = deleteAction;
+        }
+
+        public String text(EmployeeTableColumn column) {
+            return cells[column.getIndex() - 1];
+        }
+
+        public String id() { return text(EmployeeTableColumn.ID); }
+        public String firstName() { return text(EmployeeTableColumn.FIRST_NAME); }
+        public String lastName() { return text(EmployeeTableColumn.LAST_NAME); }
+        public int dependents() { return Integer.parseInt(text(EmployeeTableColumn.DEPENDENTS)); }
+        public Money salary() { return Money.parse(text(EmployeeTableColumn.SALARY)); }
+        public Money grossPay() { return Money.parse(text(EmployeeTableColumn.GROSS_PAY)); }
+        public Money benefitsCost() { return Money.parse(text(EmployeeTableColumn.BENEFITS_COST)); }
+        public Money netPay() { return Money.parse(text(EmployeeTableColumn.NET_PAY)); }
+        public boolean hasDeleteAction() { return deleteAction; }
+    }
+}
@@ -9,12 +9,14 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 
 public abstract class BaseUI {
+    protected static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
     protected final WebDriver driver;
     protected final WebDriverWait wait;
 
     protected BaseUI() {
         this.driver = DriverManager.get();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+        this.wait = new WebDriverWait(driver, WAIT_TIMEOUT);
         PageFactory.initElements(driver, this);
         LogHelper.info(this.getClass().getSimpleName() + " initialized");
     }
@@ -28,11 +28,29 @@ public final class ConfigManager {
     private ConfigManager() {}
 
     public static String getProperty(String key) {
-        String value = props.getProperty(key);
+        String value = System.getProperty(key, props.getProperty(key));
         LogHelper.debug("Property read: " + key + " = " + value);
         return value;
     }
 
+    public static int getInt(String key, int defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isBlank()) return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LogHelper.warn("Invalid integer for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * API_STUB=true points ApiHelper at the in-process Employees API stub instead of API_BASE_URL.
+     */
+    public static boolean useApiStub() {
+        return Boolean.parseBoolean(getProperty("API_STUB"));
+    }
+
     public static String baseUrl() {
         return getProperty("BASE_URL");
     }
@@ -0,0 +1,250 @@
+package UI.core;
+
+import Common.LogHelper;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the local driver binary (chromedriver, geckodriver, msedgedriver) once per JVM and
+ * sets the matching {@code webdriver.*.driver} system property, so neither WebDriverManager nor
+ * Selenium Manager runs on every browser start.
+ * <p>
+ * Resolved paths are stored in DRIVER_CACHE_FILE under the browser and its installed version
+ * (read from {@code <browser> --version}, or the registry on Windows). A later run with the same
+ * browser build reuses the path without any version lookups. When the version cannot be detected
+ * the cache is neither read nor written. With DRIVER_OFFLINE=true the network is never used: the
+ * cache or a driver on PATH must provide the binary.
+ * Run {@code main} (e.g. while building the Docker image, {@code mvn -Pdrivers compile exec:java})
+ * to fill the cache ahead of time.
+ */
+public final class DriverBinaryResolver {
+
+    private static final Pattern VERSION = Pattern.compile("(\\d+(?:\\.\\d+)+)");
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase().contains("win");
+    private static final boolean MAC = System.getProperty("os.name", "").toLowerCase().contains("mac");
+    private static final Map<BrowserType, String> RESOLVED = new EnumMap<>(BrowserType.class);
+
+    private DriverBinaryResolver() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            resolve(BrowserType.CHROME);
+        }
+        for (String browser : args) {
+            resolve(BrowserType.valueOf(browser.trim().toUpperCase()));
+        }
+    }
+
+    /**
+     * @return absolute path of the driver for {@code browser}; also set as its system property
+     * @throws IllegalStateException if offline and neither the cache nor PATH has a driver
+     */
+    public static synchronized String resolve(BrowserType browser) {
+        String path = RESOLVED.get(browser);
+        if (path != null) return path;
+
+        long start = System.nanoTime();
+        String source;
+        String configured = System.getProperty(systemProperty(browser));
+        String browserVersion = null;
+        if (configured != null && Files.isExecutable(Path.of(configured))) {
+            path = configured;
+            source = systemProperty(browser);
+        } else {
+            browserVersion = detectBrowserVersion(browser);
+            String key = browser.name().toLowerCase() + "." + browserVersion;
+            // Without a version a cached driver may not match the installed browser, so skip the cache
+            Properties cache = browserVersion == null ? null : loadCache();
+            path = cache == null ? null : cache.getProperty(key + ".path");
+            source = "cache";
+            if (path == null || !Files.isExecutable(Path.of(path))) {
+                String driverVersion;
+                if (isOffline()) {
+                    path = findOnPath(driverName(browser));
+                    source = "PATH";
+                    if (path == null) {
+                        throw new IllegalStateException("DRIVER_OFFLINE=true but no cached " + driverName(browser)
+                                + " for " + browser + " " + browserVersion + " in " + cacheFile()
+                                + " and none on PATH");
+                    }
+                    driverVersion = "unknown";
+                } else {
+                    WebDriverManager wdm = manager(browser);
+                    if (browserVersion != null) wdm.browserVersion(browserVersion.split("\\.")[0]);
+                    wdm.setup();
+                    path = wdm.getDownloadedDriverPath();
+                    source = "WebDriverManager";
+                    driverVersion = String.valueOf(wdm.getDownloadedDriverVersion());
+                }
+                if (cache != null) {
+                    cache.setProperty(key + ".driverVersion", driverVersion);
+                    cache.setProperty(key + ".path", path);
+                    storeCache(cache);
+                }
+            }
+        }
+
+        System.setProperty(systemProperty(browser), path);
+        RESOLVED.put(browser, path);
+        LogHelper.info("Resolved " + driverName(browser) + " for " + browser
+                + (browserVersion == null ? "" : " " + browserVersion)
+                + " from " + source + " in " + (System.nanoTime() - start) / 1_000_000 + " ms: " + path);
+        return path;
+    }
+
+    static boolean isOffline() {
+        return Boolean.parseBoolean(ConfigManager.getProperty("DRIVER_OFFLINE"));
+    }
+
+    static Path cacheFile() {
+        String file = ConfigManager.getProperty("DRIVER_CACHE_FILE");
+        return file == null || file.isBlank()
+                ? Path.of(System.getProperty("user.home"), ".cache", "paylocity-drivers", "drivers.properties")
+                : Path.of(file);
+    }
+
+    private static String systemProperty(BrowserType browser) {
+        return switch (browser) {
+            case CHROME -> "webdriver.chrome.driver";
+            case FIREFOX -> "webdriver.gecko.driver";
+            case EDGE -> "webdriver.edge.driver";
+        };
+    }
+
+    private static String driverName(BrowserType browser) {
+        return switch (browser) {
+            case CHROME -> "chromedriver";
+            case FIREFOX -> "geckodriver";
+            case EDGE -> "msedgedriver";
+        };
+    }
+
+    private static WebDriverManager manager(BrowserType browser) {
+        return switch (browser) {
+            case CHROME -> WebDriverManager.chromedriver();
+            case FIREFOX -> WebDriverManager.firefoxdriver();
+            case EDGE -> WebDriverManager.edgedriver();
+        };
+    }
+
+    private static List<List<String>> versionCommands(BrowserType browser) {
+        if (WINDOWS) {
+            return switch (browser) {
+                case CHROME -> List.of(List.of("reg", "query", "HKCU\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"));
+                case FIREFOX -> List.of(List.of("reg", "query", "HKLM\\Software\\Mozilla\\Mozilla Firefox", "/v", "CurrentVersion"));
+                case EDGE -> List.of(List.of("reg", "query", "HKCU\\Software\\Microsoft\\Edge\\BLBeacon", "/v", "version"));
+            };
+        }
+        if (MAC) {
+            return switch (browser) {
+                case CHROME -> List.of(List.of("/Applications/Google Chrome.app/Contents/MacOS/Google Chrome", "--version"));
+                case FIREFOX -> List.of(List.of("/Applications/Firefox.app/Contents/MacOS/firefox", "--version"));
+                case EDGE -> List.of(List.of("/Applications/Microsoft Edge.app/Contents/MacOS/Microsoft Edge", "--version"));
+            };
+        }
+        return switch (browser) {
+            case CHROME -> List.of(List.of("google-chrome", "--version"), List.of("google-chrome-stable", "--version"),
+                    List.of("chromium", "--version"), List.of("chromium-browser", "--version"));
+            case FIREFOX -> List.of(List.of("firefox", "--version"));
+            case EDGE -> List.of(List.of("microsoft-edge", "--version"), List.of("microsoft-edge-stable", "--version"));
+        };
+    }
+
+    /**
+     * @return installed browser version such as {@code 128.0.6613.119}, or {@code null} if not found
+     */
+    private static String detectBrowserVersion(BrowserType browser) {
+        Path output;
+        try {
+            output = Files.createTempFile("browser-version", ".txt");
+        } catch (IOException e) {
+            LogHelper.warn("Could not create a temp file for the browser version: " + e);
+            return null;
+        }
+        try {
+            for (List<String> command : versionCommands(browser)) {
+                try {
+                    // Output goes to a file so a hung browser cannot block us past the timeout
+                    Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                            .redirectOutput(output.toFile()).start();
+                    if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                        continue;
+                    }
+                    Matcher m = VERSION.matcher(new String(Files.readAllBytes(output), StandardCharsets.UTF_8));
+                    if (process.exitValue() == 0 && m.find()) return m.group(1);
+                } catch (IOException e) {
+                    // Binary not installed under this name
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            return null;
+        } finally {
+            try {
+                Files.deleteIfExists(output);
+            } catch (IOException e) {
+                output.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    private static String findOnPath(String name) {
+        String path = System.getenv("PATH");
+        if (path == null) return null;
+        for (String dir : path.split(File.pathSeparator)) {
+            for (String candidate : WINDOWS ? List.of(name + ".exe", name) : List.of(name)) {
+                Path file = Path.of(dir, candidate);
+                if (Files.isExecutable(file)) return file.toAbsolutePath().toString();
+            }
+        }
+        return null;
+    }
+
+    private static Properties loadCache() {
+        Properties cache = new Properties();
+        Path file = cacheFile();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                cache.load(in);
+            } catch (IOException e) {
+                LogHelper.warn("Ignoring unreadable driver cache " + file + ": " + e);
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Written to a temp file and moved into place, so parallel JVMs never read a partial file.
+     */
+    private static void storeCache(Properties cache) {
+        Path file = cacheFile().toAbsolutePath();
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), "drivers", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                cache.store(out, "Resolved WebDriver binaries by browser and installed version");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LogHelper.warn("Could not write driver cache " + file + ": " + e);
+        }
+    }
+}
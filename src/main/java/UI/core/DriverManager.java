@@ -1,8 +1,11 @@
 package UI.core;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import Common.LatencyHistogram;
+import Common.LogHelper;
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -14,15 +17,234 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 import java.io.File;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * One WebDriver per thread. With DRIVER_POOL_ENABLED (default) {@link #stop()} does not quit the
+ * browser: it closes extra windows, clears cookies and web storage, loads about:blank and keeps
+ * the session for the next {@link #start} with the same options. At most DRIVER_POOL_SIZE idle
+ * sessions are kept; a session is quit after DRIVER_MAX_REUSE tests, when its reset fails, or
+ * when it no longer answers the health check on checkout. Idle sessions are quit on JVM exit.
+ * <p>
+ * {@link #prewarm} launches browsers in the background (e.g. from @BeforeSuite, while API tests
+ * and cleanup run); {@link #start} hands those out before launching a new one. Every launch is
+ * timed per browser type, see {@link #startupLatency}.
+ */
 public final class DriverManager {
-    private static final ThreadLocal<WebDriver> TL_DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<Session> TL_SESSION = new ThreadLocal<>();
+
+    private static final boolean POOL_ENABLED = !"false".equalsIgnoreCase(ConfigManager.getProperty("DRIVER_POOL_ENABLED"));
+    private static final int POOL_SIZE = Math.max(0, ConfigManager.getInt("DRIVER_POOL_SIZE", 4));
+    private static final int MAX_REUSE = Math.max(1, ConfigManager.getInt("DRIVER_MAX_REUSE", 20));
+    private static final int PREWARM_SHUTDOWN_SECONDS = Math.max(0, ConfigManager.getInt("DRIVER_PREWARM_SHUTDOWN_SECONDS", 30));
+    private static final Deque<Session> IDLE = new ArrayDeque<>();
+    // Guarded by IDLE
+    private static final Deque<Pending> PENDING = new ArrayDeque<>();
+    private static final Map<BrowserType, LatencyHistogram> STARTUP = new ConcurrentHashMap<>();
+    private static final Map<String, LoginSession> LOGINS = new ConcurrentHashMap<>();
+
+    static {
+        if (POOL_ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdown, "driver-pool-shutdown"));
+        }
+    }
+
+    private static final class Session {
+        final WebDriver driver;
+        final DriverOptions opts;
+        int uses;
+
+        Session(WebDriver driver, DriverOptions opts) {
+            this.driver = driver;
+            this.opts = opts;
+        }
+    }
+
+    private record Pending(DriverOptions opts, CompletableFuture<Session> session) {
+    }
 
     private DriverManager() {}
 
+    /**
+     * Starts launching {@code count} browsers (capped at DRIVER_POOL_SIZE) on background threads
+     * and returns immediately. Launch failures are logged when a test claims the session, which
+     * then falls back to launching its own browser.
+     */
+    public static void prewarm(DriverOptions opts, int count) {
+        int n = Math.min(count, POOL_SIZE);
+        if (!POOL_ENABLED || n <= 0) return;
+
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService launcher = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new Thread(r, "driver-prewarm-" + threadId.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        synchronized (IDLE) {
+            for (int i = 0; i < n; i++) {
+                PENDING.add(new Pending(opts,
+                        CompletableFuture.supplyAsync(() -> new Session(create(opts, "prewarm"), opts), launcher)));
+            }
+        }
+        launcher.shutdown();
+        LogHelper.info("Pre-warming " + n + " " + opts.browser() + " sessions in the background");
+    }
+
+    /**
+     * @return launch times in microseconds for {@code browser}, or {@code null} if none was started
+     */
+    public static LatencyHistogram startupLatency(BrowserType browser) {
+        return STARTUP.get(browser);
+    }
+
     public static void start(DriverOptions opts) {
-        if (TL_DRIVER.get() != null) return;
+        if (TL_SESSION.get() != null) return;
+
+        Session session = null;
+        if (POOL_ENABLED) {
+            session = takeIdle(opts);
+            if (session == null) session = takePending(opts);
+        }
+        if (session == null) {
+            session = new Session(create(opts, "on demand"), opts);
+        }
+        session.uses++;
+        TL_SESSION.set(session);
+    }
+
+    public static WebDriver get() {
+        Session session = TL_SESSION.get();
+        if (session == null) throw new IllegalStateException("Driver not started");
+        return session.driver;
+    }
+
+    /**
+     * Releases the current thread's driver: back to the pool when it can be reset, quit otherwise.
+     */
+    public static void stop() {
+        Session session = TL_SESSION.get();
+        if (session == null) return;
+        TL_SESSION.remove();
+
+        if (!POOL_ENABLED || session.uses >= MAX_REUSE || !reset(session.driver) || !offerIdle(session)) {
+            quitQuietly(session.driver);
+        }
+    }
+
+    /**
+     * Remembers the current driver's cookies, storage and page as the logged-in state of {@code user}.
+     */
+    public static void saveLogin(String user) {
+        LOGINS.put(user, LoginSession.capture(get()));
+    }
+
+    /**
+     * Injects the login cached for {@code user} into the current driver and opens the page it
+     * landed on, skipping the login form.
+     *
+     * @return {@code false} if no login is cached or it could not be applied
+     */
+    public static boolean restoreLogin(String user) {
+        LoginSession session = LOGINS.get(user);
+        if (session == null) return false;
+        try {
+            session.applyTo(get());
+            return true;
+        } catch (WebDriverException e) {
+            LogHelper.warn("Could not restore cached login for " + user + ": " + e.getMessage());
+            LOGINS.remove(user, session);
+            return false;
+        }
+    }
+
+    public static void forgetLogin(String user) {
+        LOGINS.remove(user);
+    }
+
+    /**
+     * Quits the current thread's driver without returning it to the pool.
+     */
+    public static void discard() {
+        Session session = TL_SESSION.get();
+        if (session == null) return;
+        TL_SESSION.remove();
+        quitQuietly(session.driver);
+    }
+
+    /**
+     * Quits every idle pooled session and every pre-warmed one nobody claimed, waiting up to
+     * DRIVER_PREWARM_SHUTDOWN_SECONDS for launches still in progress, then logs launch times per
+     * browser.
+     */
+    public static void shutdown() {
+        List<Session> idle;
+        List<Pending> pending;
+        synchronized (IDLE) {
+            idle = new ArrayList<>(IDLE);
+            IDLE.clear();
+            pending = new ArrayList<>(PENDING);
+            PENDING.clear();
+        }
+        idle.forEach(s -> quitQuietly(s.driver));
+        quitPending(pending);
+
+        STARTUP.forEach((browser, h) -> LogHelper.info(browser + " startup: launches=" + h.count()
+                + " meanMs=" + Math.round(h.mean() / 1000)
+                + " p50Ms=" + h.percentile(50) / 1000
+                + " maxMs=" + h.max() / 1000));
+    }
 
+    private static void quitPending(List<Pending> pending) {
+        if (pending.isEmpty()) return;
+        try {
+            CompletableFuture.allOf(pending.stream().map(Pending::session).toArray(CompletableFuture[]::new))
+                    .get(PREWARM_SHUTDOWN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed launches have nothing to quit; unfinished ones are reported below
+        }
+        int abandoned = 0;
+        for (Pending p : pending) {
+            CompletableFuture<Session> session = p.session();
+            if (!session.isDone()) {
+                abandoned++;
+                session.thenAccept(s -> quitQuietly(s.driver));
+            } else if (!session.isCompletedExceptionally()) {
+                quitQuietly(session.join().driver);
+            }
+        }
+        if (abandoned > 0) {
+            LogHelper.warn(abandoned + " pre-warmed browser launches did not finish within "
+                    + PREWARM_SHUTDOWN_SECONDS + " s of shutdown and may be left running");
+        }
+    }
+
+    public static int idleCount() {
+        synchronized (IDLE) {
+            return IDLE.size();
+        }
+    }
+
+    private static WebDriver create(DriverOptions opts, String reason) {
+        long start = System.nanoTime();
+        if (!opts.remote()) {
+            DriverBinaryResolver.resolve(opts.browser());
+        }
         WebDriver driver = switch (opts.browser()) {
             case CHROME -> createChrome(opts);
             case FIREFOX -> createFirefox(opts);
@@ -38,25 +260,103 @@ public final class DriverManager {
             try { driver.manage().window().setSize(new Dimension(1920, 1080)); } catch (Exception ignored) {}
         }
 
-        TL_DRIVER.set(driver);
+        long micros = (System.nanoTime() - start) / 1_000;
+        STARTUP.computeIfAbsent(opts.browser(), b -> new LatencyHistogram()).record(micros);
+        LogHelper.info("Started " + opts.browser() + " (" + reason + ") in " + micros / 1_000 + " ms");
+        return driver;
     }
 
-    public static WebDriver get() {
-        if (TL_DRIVER.get() == null) throw new IllegalStateException("Driver not started");
-        return TL_DRIVER.get();
+    private static Session takeIdle(DriverOptions opts) {
+        while (true) {
+            Session session = null;
+            synchronized (IDLE) {
+                for (Iterator<Session> it = IDLE.iterator(); it.hasNext(); ) {
+                    Session candidate = it.next();
+                    if (candidate.opts.equals(opts)) {
+                        it.remove();
+                        session = candidate;
+                        break;
+                    }
+                }
+            }
+            if (session == null) return null;
+            if (isHealthy(session.driver)) return session;
+            LogHelper.warn("Dropping unresponsive pooled " + opts.browser() + " session");
+            quitQuietly(session.driver);
+        }
     }
 
-    public static void stop() {
-        WebDriver d = TL_DRIVER.get();
-        if (d != null) {
-            d.quit();
-            TL_DRIVER.remove();
+    /**
+     * Claims a pre-warmed session for {@code opts}, preferring one that has finished launching.
+     *
+     * @return {@code null} if none is pending or the claimed launch failed
+     */
+    private static Session takePending(DriverOptions opts) {
+        Pending claimed = null;
+        synchronized (IDLE) {
+            for (Pending p : PENDING) {
+                if (p.opts().equals(opts) && (claimed == null || p.session().isDone() && !claimed.session().isDone())) {
+                    claimed = p;
+                }
+            }
+            if (claimed != null) PENDING.remove(claimed);
+        }
+        if (claimed == null) return null;
+        try {
+            return claimed.session().join();
+        } catch (CompletionException e) {
+            LogHelper.warn("Pre-warmed " + opts.browser() + " session failed to start: " + e.getCause());
+            return null;
         }
     }
 
-    private static WebDriver createChrome(DriverOptions opts) {
-        WebDriverManager.chromedriver().setup();
+    private static boolean offerIdle(Session session) {
+        synchronized (IDLE) {
+            if (IDLE.size() >= POOL_SIZE) return false;
+            IDLE.addFirst(session);
+            return true;
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
 
+    /**
+     * Leaves one window on about:blank with no cookies or storage. Cookies and storage are cleared
+     * before navigating away because WebDriver only reaches those of the current origin.
+     */
+    private static boolean reset(WebDriver driver) {
+        try {
+            String main = driver.getWindowHandle();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(main)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(main);
+            driver.manage().deleteAllCookies();
+            if (driver instanceof JavascriptExecutor js) {
+                js.executeScript("try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            LogHelper.warn("Could not reset browser session, quitting it: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try { driver.quit(); } catch (Exception ignored) {}
+    }
+
+    private static WebDriver createChrome(DriverOptions opts) {
         ChromeOptions options = new ChromeOptions();
 
         if (effectiveHeadless(opts)) {
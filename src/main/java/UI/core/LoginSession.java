@@ -0,0 +1,69 @@
+package UI.core;
+
+import Common.LogHelper;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cookies and localStorage of a logged-in browser plus the page the login landed on, so another
+ * session can skip the login form. Captured with {@link #capture} after a real login and replayed
+ * with {@link #applyTo}.
+ */
+public record LoginSession(String landingUrl, Set<Cookie> cookies, Map<String, String> localStorage) {
+
+    private static final String READ_STORAGE = """
+            const out = {};
+            for (let i = 0; i < localStorage.length; i++) {
+              const k = localStorage.key(i);
+              out[k] = localStorage.getItem(k);
+            }
+            return out;
+            """;
+
+    @SuppressWarnings("unchecked")
+    public static LoginSession capture(WebDriver driver) {
+        Map<String, String> storage = Map.of();
+        if (driver instanceof JavascriptExecutor js) {
+            try {
+                Object result = js.executeScript(READ_STORAGE);
+                if (result instanceof Map<?, ?> map) storage = Map.copyOf((Map<String, String>) map);
+            } catch (WebDriverException e) {
+                LogHelper.warn("Could not read localStorage for login session: " + e.getMessage());
+            }
+        }
+        return new LoginSession(driver.getCurrentUrl(), Set.copyOf(driver.manage().getCookies()), storage);
+    }
+
+    /**
+     * Loads a small resource on the landing page's origin (cookies can only be added for the
+     * current domain), adds the cookies and storage, then opens the landing page.
+     */
+    public void applyTo(WebDriver driver) {
+        URI landing = URI.create(landingUrl);
+        driver.get(landing.getScheme() + "://" + landing.getRawAuthority() + "/favicon.ico");
+
+        for (Cookie cookie : cookies) {
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                // Some drivers reject an explicit (dot-prefixed) domain; host-only works the same here
+                driver.manage().addCookie(new Cookie.Builder(cookie.getName(), cookie.getValue())
+                        .path(cookie.getPath())
+                        .expiresOn(cookie.getExpiry())
+                        .isSecure(cookie.isSecure())
+                        .isHttpOnly(cookie.isHttpOnly())
+                        .build());
+            }
+        }
+        if (!localStorage.isEmpty() && driver instanceof JavascriptExecutor js) {
+            js.executeScript("const s = arguments[0]; for (const k in s) localStorage.setItem(k, s[k]);", localStorage);
+        }
+        driver.get(landingUrl);
+    }
+}
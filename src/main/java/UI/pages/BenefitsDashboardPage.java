@@ -1,13 +1,19 @@
 package UI.pages;
 
+import Common.LogHelper;
 import UI.components.DeleteConfirmationComponent;
 import UI.components.EmployeeFormComponent;
 import UI.components.EmployeesTableComponent;
 import UI.core.BaseUI;
+import UI.core.ConfigManager;
+import UI.core.DriverManager;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
 public class BenefitsDashboardPage extends BaseUI {
+    private static final boolean FAST_LOGIN = Boolean.parseBoolean(ConfigManager.getProperty("UI_FAST_LOGIN"));
+
     public final EmployeeFormComponent employeeForm;
     public final EmployeesTableComponent employeesTable;
     public final DeleteConfirmationComponent deleteConfirmation;
@@ -22,6 +28,39 @@ public class BenefitsDashboardPage extends BaseUI {
         deleteConfirmation = new DeleteConfirmationComponent();
     }
 
+    /**
+     * Opens the dashboard as {@code user}. With UI_FAST_LOGIN=true only the first call per user
+     * goes through the login form; its session is cached in DriverManager and later calls inject it
+     * and land on the dashboard directly. A rejected (e.g. expired) session falls back to the form.
+     */
+    public static BenefitsDashboardPage open(String loginUrl, String user, String password) {
+        if (FAST_LOGIN && DriverManager.restoreLogin(user)) {
+            BenefitsDashboardPage dashboard = new BenefitsDashboardPage();
+            if (dashboard.isLoaded()) return dashboard;
+            LogHelper.warn("Cached login for " + user + " was not accepted, logging in again");
+            DriverManager.forgetLogin(user);
+        }
+
+        BenefitsDashboardPage dashboard = new LoginPage()
+                .open(loginUrl)
+                .typeUsername(user)
+                .typePassword(password)
+                .clickLogin();
+        if (FAST_LOGIN && dashboard.isLoaded()) {
+            DriverManager.saveLogin(user);
+        }
+        return dashboard;
+    }
+
+    public boolean isLoaded() {
+        try {
+            waitUntilVisible(addEmployeeButton);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
     public EmployeeFormComponent clickAddEmployee() {
         click(addEmployeeButton);
         return employeeForm;
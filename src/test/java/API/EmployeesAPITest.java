@@ -1,20 +1,23 @@
 package API;
 
+import API.benefits.BenefitsValidator;
 import API.core.ApiHelper;
 import API.factories.EmployeeDataFactory;
 import API.models.employees.EmployeeCreateRequest;
 import API.models.employees.EmployeeUpdateRequest;
 import API.responses.employees.EmployeeResponse;
+import API.services.BulkResult;
 import API.services.EmployeeService;
 import Common.LogHelper;
+import Common.Money;
 import UI.core.ConfigManager;
 import io.restassured.response.Response;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,9 +26,14 @@ import static java.util.UUID.randomUUID;
 
 public class EmployeesAPITest {
 
-    @BeforeMethod
+    @BeforeClass
     public void cleanAndSeed() {
-        EmployeeService.deleteAll();
+        EmployeeService.deleteAllOnce();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteCreated() {
+        EmployeeService.deleteScoped();
     }
 
     @Test(testName = "API01 Get all employees")
@@ -96,16 +104,14 @@ public class EmployeesAPITest {
                 + " benefitsCost=" + resp.getBenefitsCost()
                 + " net=" + resp.getNet());
 
-        BigDecimal expectedAnnual = new BigDecimal("2000.00");
-        BigDecimal expectedPerPay = new BigDecimal("76.92");
-        BigDecimal expectedNet = new BigDecimal("1923.08");
+        Money expectedAnnual = Money.parse("2000.00");
+        Money expectedPerPay = Money.parse("76.92");
+        Money expectedNet = Money.parse("1923.08");
 
-        BigDecimal apiPerPay = BigDecimal.valueOf(resp.getBenefitsCost()).setScale(2, RoundingMode.HALF_UP);
-        BigDecimal apiAnnual = BigDecimal.valueOf(resp.getBenefitsCost())
-                .multiply(new BigDecimal("26"))
-                .setScale(2, RoundingMode.HALF_UP);
-        BigDecimal apiNet = BigDecimal.valueOf(resp.getNet()).setScale(2, RoundingMode.HALF_UP);
-        BigDecimal apiGross = BigDecimal.valueOf(resp.getGross()).setScale(2, RoundingMode.HALF_UP);
+        Money apiPerPay = resp.getBenefitsCostMoney();
+        Money apiAnnual = Money.of(resp.getBenefitsCost() * 26);
+        Money apiNet = resp.getNetMoney();
+        Money apiGross = resp.getGrossMoney();
 
         LogHelper.info("PerPay API=" + apiPerPay + " vs expected=" + expectedPerPay);
         LogHelper.info("Annual  API=" + apiAnnual + " vs expected=" + expectedAnnual);
@@ -244,15 +250,14 @@ public class EmployeesAPITest {
         );
         EmployeeResponse updated = EmployeeService.update(upd);
 
-        BigDecimal perPay = BigDecimal.valueOf(updated.getBenefitsCost()).setScale(2, RoundingMode.HALF_UP);
-        BigDecimal annual = BigDecimal.valueOf(updated.getBenefitsCost()).multiply(new BigDecimal("26"))
-                .setScale(2, RoundingMode.HALF_UP);
-        BigDecimal gross = BigDecimal.valueOf(updated.getGross()).setScale(2, RoundingMode.HALF_UP);
-        BigDecimal net = BigDecimal.valueOf(updated.getNet()).setScale(2, RoundingMode.HALF_UP);
+        Money perPay = updated.getBenefitsCostMoney();
+        Money annual = Money.of(updated.getBenefitsCost() * 26);
+        Money gross = updated.getGrossMoney();
+        Money net = updated.getNetMoney();
 
-        Assert.assertEquals(perPay, new BigDecimal("57.69"), "Per paycheck benefits must be 57.69");
-        Assert.assertEquals(annual, new BigDecimal("1500.00"), "Annual benefits must be 1500.00");
-        Assert.assertEquals(net, gross.subtract(new BigDecimal("57.69")).setScale(2, RoundingMode.HALF_UP),
+        Assert.assertEquals(perPay, Money.parse("57.69"), "Per paycheck benefits must be 57.69");
+        Assert.assertEquals(annual, Money.parse("1500.00"), "Annual benefits must be 1500.00");
+        Assert.assertEquals(net, gross.minus(Money.parse("57.69")),
                 "Net must be gross - benefits per paycheck");
     }
 
@@ -403,4 +408,57 @@ public class EmployeesAPITest {
                 "Error message should mention dependants must be integer. Actual: " + resp.asString());
     }
 
+    @Test(testName = "API21 Benefits are correct for every employee in the list")
+    public void getAllEmployees_benefitsShouldMatchExpectedValues() {
+        // dependants, salary, gross, benefits cost, net per paycheck
+        String[][] cases = {
+                {"0", "40000", "1538.46", "38.46", "1500.00"},
+                {"1", "47919", "1843.04", "57.69", "1785.35"},
+                {"2", "55838", "2147.62", "76.92", "2070.69"},
+                {"3", "63757", "2452.19", "96.15", "2356.04"},
+                {"4", "71676", "2756.77", "115.38", "2641.38"},
+                {"5", "79595", "3061.35", "134.62", "2926.73"},
+        };
+        List<EmployeeCreateRequest> bodies = new ArrayList<>();
+        for (String[] c : cases) {
+            bodies.add(EmployeeDataFactory.create("Bulk", "Check" + c[0], Integer.parseInt(c[0]), Integer.parseInt(c[1])));
+        }
+        List<EmployeeResponse> created = EmployeeService.createAll(bodies).orThrow();
+
+        Map<String, EmployeeResponse> listed = new HashMap<>();
+        for (EmployeeResponse employee : EmployeeService.getAll()) {
+            listed.put(employee.getId(), employee);
+        }
+
+        for (int i = 0; i < cases.length; i++) {
+            EmployeeResponse employee = listed.get(created.get(i).getId());
+            Assert.assertNotNull(employee, "Created employee should be listed: " + created.get(i).getId());
+            String label = "dependants=" + cases[i][0] + " salary=" + cases[i][1];
+            Assert.assertEquals(employee.getGrossMoney(), Money.parse(cases[i][2]), "Gross for " + label);
+            Assert.assertEquals(employee.getBenefitsCostMoney(), Money.parse(cases[i][3]), "Benefits cost for " + label);
+            Assert.assertEquals(employee.getNetMoney(), Money.parse(cases[i][4]), "Net for " + label);
+        }
+
+        BenefitsValidator.Report report = BenefitsValidator.validateAll();
+        Assert.assertTrue(report.checked() >= cases.length, "All created employees should be listed");
+        Assert.assertTrue(report.isValid(), "Benefits mismatches in the list: " + report.mismatches());
+    }
+
+    @Test(testName = "API22 Bulk create reports rejected employees as failures")
+    public void createAll_withInvalidEmployee_shouldReportFailure() {
+        List<EmployeeCreateRequest> bodies = List.of(
+                EmployeeDataFactory.create("Bulk", "Valid", 1, 52000),
+                EmployeeDataFactory.create("Bulk", "Invalid", 33, 52000));
+
+        BulkResult<EmployeeResponse> result = EmployeeService.createAll(bodies);
+
+        Assert.assertEquals(result.successCount(), 1, "Only the valid employee should be created");
+        Assert.assertNotNull(result.getResults().get(0).getId(), "Valid employee should get an id");
+        Assert.assertNull(result.getResults().get(1), "Rejected employee should have no result");
+        Throwable failure = result.getFailures().get(1);
+        Assert.assertNotNull(failure, "Rejected employee should be reported as a failure");
+        Assert.assertTrue(failure.getMessage().contains("HTTP 400"),
+                "Failure should carry the status. Actual: " + failure.getMessage());
+    }
+
 }
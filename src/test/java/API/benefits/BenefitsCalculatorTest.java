@@ -0,0 +1,51 @@
+package API.benefits;
+
+import API.responses.employees.EmployeeResponse;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class BenefitsCalculatorTest {
+
+    private static final double DELTA = 1e-6;
+
+    @DataProvider
+    public Object[][] paychecks() {
+        // salary, dependants, gross, benefits cost, net per paycheck
+        return new Object[][]{
+                {52000, 0, 2000.0, 38.461538, 1961.538462},
+                {52000, 2, 2000.0, 76.923077, 1923.076923},
+                {40000, 1, 1538.461538, 57.692308, 1480.769231},
+                {79595, 5, 3061.346154, 134.615385, 2926.730769},
+                {0, 0, 0.0, 38.461538, -38.461538},
+        };
+    }
+
+    @Test(dataProvider = "paychecks")
+    public void expected_shouldSplitSalaryAndBenefitsOver26Paychecks(int salary, int dependants,
+                                                                      double gross, double benefitsCost, double net) {
+        BenefitsCalculator.Paycheck paycheck = BenefitsCalculator.expected(salary, dependants);
+
+        Assert.assertEquals(paycheck.gross(), gross, DELTA, "gross");
+        Assert.assertEquals(paycheck.benefitsCost(), benefitsCost, DELTA, "benefitsCost");
+        Assert.assertEquals(paycheck.net(), net, DELTA, "net");
+    }
+
+    @Test
+    public void expected_shouldDefaultMissingSalaryAndDependants() {
+        EmployeeResponse employee = new EmployeeResponse();
+
+        BenefitsCalculator.Paycheck paycheck = BenefitsCalculator.expected(employee);
+
+        Assert.assertEquals(paycheck.gross(), 2000.0, DELTA);
+        Assert.assertEquals(paycheck.benefitsCost(), 38.461538, DELTA);
+    }
+
+    @Test
+    public void matches_shouldAcceptAnythingThatRoundsToTheSameCent() {
+        Assert.assertTrue(BenefitsCalculator.matches(38.461538, 38.46));
+        Assert.assertTrue(BenefitsCalculator.matches(38.461538, 38.461538));
+        Assert.assertFalse(BenefitsCalculator.matches(38.461538, 38.47));
+        Assert.assertFalse(BenefitsCalculator.matches(38.461538, null));
+    }
+}
@@ -0,0 +1,84 @@
+package API.benefits;
+
+import API.responses.employees.EmployeeBatch;
+import API.responses.employees.EmployeeResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class BenefitsValidatorTest {
+
+    private static final String VALID_ID = "3fa85f64-5717-4562-b3fc-2c963f66afa6";
+    private static final String ROUNDED_ID = "c0ffee00-0000-4000-8000-000000000001";
+    private static final String WRONG_NET_ID = "c0ffee00-0000-4000-8000-000000000002";
+    private static final String MISSING_GROSS_ID = "c0ffee00-0000-4000-8000-000000000003";
+
+    private static List<EmployeeResponse> employees() {
+        return List.of(
+                employee(VALID_ID, 52000, 2, 2000.0, 76.92307692307692, 1923.076923076923),
+                // Figures rounded to the cent still match
+                employee(ROUNDED_ID, 40000, 1, 1538.46, 57.69, 1480.77),
+                // Seeded mismatch: net ignores the benefits cost
+                employee(WRONG_NET_ID, 52000, 0, 2000.0, 38.46153846153846, 2000.0),
+                employee(MISSING_GROSS_ID, 52000, 0, null, 38.46153846153846, 1961.5384615384614));
+    }
+
+    @Test
+    public void validate_shouldReportEveryMismatchingField() {
+        BenefitsValidator.Report report = BenefitsValidator.validate(employees());
+
+        assertSeededMismatches(report);
+    }
+
+    @Test
+    public void validateBatch_shouldReportTheSameMismatches() {
+        BenefitsValidator.Report report = BenefitsValidator.validate(EmployeeBatch.of(employees()));
+
+        assertSeededMismatches(report);
+    }
+
+    @Test
+    public void validate_shouldPassCorrectEmployees() {
+        List<EmployeeResponse> valid = employees().subList(0, 2);
+
+        Assert.assertTrue(BenefitsValidator.validate(valid).isValid());
+        Assert.assertTrue(BenefitsValidator.validate(EmployeeBatch.of(valid)).isValid());
+        Assert.assertTrue(BenefitsValidator.check(valid.get(0)).isEmpty());
+    }
+
+    private static void assertSeededMismatches(BenefitsValidator.Report report) {
+        Assert.assertEquals(report.checked(), 4);
+        Assert.assertFalse(report.isValid());
+        Assert.assertEquals(report.mismatches().size(), 2, "Mismatches: " + report.mismatches());
+
+        BenefitsValidator.Mismatch wrongNet = mismatch(report, WRONG_NET_ID);
+        Assert.assertEquals(wrongNet.field(), "net");
+        Assert.assertEquals(wrongNet.expected(), 1961.538462, 1e-6);
+        Assert.assertEquals(wrongNet.actual(), Double.valueOf(2000.0));
+
+        BenefitsValidator.Mismatch missingGross = mismatch(report, MISSING_GROSS_ID);
+        Assert.assertEquals(missingGross.field(), "gross");
+        Assert.assertNull(missingGross.actual());
+    }
+
+    private static BenefitsValidator.Mismatch mismatch(BenefitsValidator.Report report, String id) {
+        return report.mismatches().stream()
+                .filter(m -> m.id().equals(id))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No mismatch reported for " + id + ": " + report.mismatches()));
+    }
+
+    private static EmployeeResponse employee(String id, int salary, int dependants, Double gross, Double benefitsCost, Double net) {
+        EmployeeResponse e = new EmployeeResponse();
+        e.setId(id);
+        e.setFirstName("Peter");
+        e.setLastName("Parker");
+        e.setSalary(salary);
+        e.setDependants(dependants);
+        e.setGross(gross);
+        e.setBenefitsCost(benefitsCost);
+        e.setNet(net);
+        return e;
+    }
+}
@@ -0,0 +1,100 @@
+package API.core;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 100;
+
+    @Test
+    public void onFailure_shouldOpenAfterThresholdConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_MILLIS);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.acquire();
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+        Assert.assertThrows(CircuitBreaker.CircuitOpenException.class, breaker::acquire);
+    }
+
+    @Test
+    public void onSuccess_shouldResetTheFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, OPEN_MILLIS);
+
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.CLOSED);
+        breaker.acquire();
+    }
+
+    @Test
+    public void acquire_shouldLetOneTrialThroughWhenHalfOpen() throws InterruptedException {
+        CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN_MILLIS + 20);
+
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.HALF_OPEN);
+        breaker.acquire();
+        Assert.assertThrows(CircuitBreaker.CircuitOpenException.class, breaker::acquire);
+    }
+
+    @Test
+    public void trialSuccess_shouldCloseTheCircuit() throws InterruptedException {
+        CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN_MILLIS + 20);
+        breaker.acquire();
+
+        breaker.onSuccess();
+
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.CLOSED);
+        breaker.acquire();
+        breaker.acquire();
+    }
+
+    @Test
+    public void trialFailure_shouldReopenTheCircuit() throws InterruptedException {
+        CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN_MILLIS + 20);
+        breaker.acquire();
+
+        breaker.onFailure();
+
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.OPEN);
+        Assert.assertThrows(CircuitBreaker.CircuitOpenException.class, breaker::acquire);
+        Thread.sleep(OPEN_MILLIS + 20);
+        breaker.acquire();
+    }
+
+    @Test
+    public void unreportedTrial_shouldBeReplacedAfterOpenPeriod() throws InterruptedException {
+        CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN_MILLIS + 20);
+        breaker.acquire();
+
+        Thread.sleep(OPEN_MILLIS + 20);
+
+        breaker.acquire();
+    }
+
+    @Test
+    public void zeroThreshold_shouldDisableTheBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 0, OPEN_MILLIS);
+
+        for (int i = 0; i < 10; i++) breaker.onFailure();
+
+        Assert.assertEquals(breaker.state(), CircuitBreaker.State.CLOSED);
+        breaker.acquire();
+    }
+
+    private static CircuitBreaker opened() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, OPEN_MILLIS);
+        breaker.onFailure();
+        return breaker;
+    }
+}
@@ -0,0 +1,80 @@
+package API.core;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class RetryPolicyTest {
+
+    private final RetryPolicy policy = new RetryPolicy(3, 200, 1000, 30000);
+
+    @Test
+    public void isRetryable_shouldOnlyAllowIdempotentMethods() {
+        for (String method : new String[]{"GET", "PUT", "DELETE", "HEAD", "OPTIONS"}) {
+            Assert.assertTrue(policy.isRetryable(method), method + " should be retryable");
+        }
+        Assert.assertFalse(policy.isRetryable("POST"), "POST must never be retried");
+        Assert.assertFalse(policy.isRetryable("PATCH"), "PATCH must never be retried");
+        Assert.assertFalse(new RetryPolicy(1, 200, 1000, 30000).isRetryable("GET"),
+                "A single attempt leaves nothing to retry");
+    }
+
+    @Test
+    public void isRetryableStatus_shouldMatchThrottlingAndGatewayErrors() {
+        for (int status : new int[]{429, 502, 503, 504}) {
+            Assert.assertTrue(RetryPolicy.isRetryableStatus(status), status + " should be retryable");
+        }
+        for (int status : new int[]{200, 400, 401, 404, 405, 500}) {
+            Assert.assertFalse(RetryPolicy.isRetryableStatus(status), status + " should not be retried");
+        }
+    }
+
+    @Test
+    public void backoffMillis_shouldStayWithinTheExponentialCeiling() {
+        long[] ceilings = {200, 400, 800, 1000, 1000};
+        for (int attempt = 1; attempt <= ceilings.length; attempt++) {
+            for (int i = 0; i < 1000; i++) {
+                long delay = policy.backoffMillis(attempt);
+                Assert.assertTrue(delay >= 0 && delay <= ceilings[attempt - 1],
+                        "Attempt " + attempt + " waited " + delay + " ms");
+            }
+        }
+        Assert.assertTrue(policy.backoffMillis(100) <= 1000, "Large attempt numbers must not overflow the shift");
+        Assert.assertEquals(new RetryPolicy(3, 0, 1000, 30000).backoffMillis(1), 0L);
+    }
+
+    @Test
+    public void retryAfterMillis_shouldReadDeltaSeconds() {
+        Assert.assertEquals(RetryPolicy.retryAfterMillis(response("2")), 2000L);
+        Assert.assertEquals(RetryPolicy.retryAfterMillis(response(" 0 ")), 0L);
+        Assert.assertEquals(RetryPolicy.retryAfterMillis(response("-5")), 0L);
+    }
+
+    @Test
+    public void retryAfterMillis_shouldReadHttpDate() {
+        String in30Seconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        long delay = RetryPolicy.retryAfterMillis(response(in30Seconds));
+        Assert.assertTrue(delay > 25_000 && delay <= 30_000, "Delay until the HTTP-date was " + delay + " ms");
+
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusHours(1));
+        Assert.assertEquals(RetryPolicy.retryAfterMillis(response(past)), 0L);
+    }
+
+    @Test
+    public void retryAfterMillis_shouldIgnoreMissingOrInvalidHeader() {
+        Assert.assertEquals(RetryPolicy.retryAfterMillis(response(null)), 0L);
+        Assert.assertEquals(RetryPolicy.retryAfterMillis(response("soon")), 0L);
+    }
+
+    private static Response response(String retryAfter) {
+        ResponseBuilder builder = new ResponseBuilder().setStatusCode(503).setBody("")
+                .setHeader("Content-Type", "application/json");
+        if (retryAfter != null) builder.setHeader("Retry-After", retryAfter);
+        return builder.build();
+    }
+}
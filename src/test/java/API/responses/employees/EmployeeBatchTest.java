@@ -0,0 +1,124 @@
+package API.responses.employees;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class EmployeeBatchTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private static final String EMPLOYEES = """
+            [
+              {"partitionKey":"TestUser810","sortKey":"3fa85f64-5717-4562-b3fc-2c963f66afa6","username":"TestUser810",
+               "id":"3fa85f64-5717-4562-b3fc-2c963f66afa6","firstName":"Peter","lastName":"Parker","dependants":2,
+               "expiration":"2030-01-01T00:00:00Z","salary":52000,"gross":2000,"benefitsCost":76.92307692307692,
+               "net":1923.076923076923},
+              {"sortKey":"c0ffee00-0000-4000-8000-000000000001","id":"c0ffee00-0000-4000-8000-000000000001",
+               "partitionKey":null,"username":null,"firstName":null,"lastName":"Nulls","dependants":null,
+               "expiration":null,"salary":null,"gross":null,"benefitsCost":null,"net":null},
+              {"id":"C0FFEE00-0000-4000-8000-000000000002","sortKey":"custom-sort","firstName":"Mary","lastName":"Jane",
+               "expiration":"2029-12-31T19:00:00-05:00","dependants":0,"salary":40000},
+              {"id":"not-a-uuid","firstName":"Miles","lastName":"Morales","expiration":"2030-06-01T12:30:00.5+00:00",
+               "unknownText":"x","unknownObject":{"a":[1,{"b":2}],"firstName":"Wrong"},"unknownArray":[[1],{"c":null}],
+               "gross":1538.4615384615386,"net":1500.0000000000002},
+              {"firstName":"Gwen","lastName":"Stacy","expiration":"2030-01-01T00:00Z","benefitsCost":0.1}
+            ]
+            """;
+
+    @Test
+    public void read_shouldMatchJacksonForEveryField() throws IOException {
+        List<EmployeeResponse> expected = MAPPER.readValue(EMPLOYEES, new TypeReference<>() {
+        });
+
+        EmployeeBatch batch = read(EMPLOYEES);
+
+        Assert.assertEquals(batch.size(), expected.size(), "Row count");
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameEmployee(batch.toResponse(i), expected.get(i), "row " + i);
+            if (expected.get(i).getId() != null) {
+                Assert.assertEquals(batch.indexOf(expected.get(i).getId()), i, "Index of " + expected.get(i).getId());
+            }
+        }
+    }
+
+    @Test
+    public void of_shouldMatchRead() throws IOException {
+        List<EmployeeResponse> expected = MAPPER.readValue(EMPLOYEES, new TypeReference<>() {
+        });
+
+        EmployeeBatch batch = EmployeeBatch.of(expected);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameEmployee(batch.toResponse(i), expected.get(i), "row " + i);
+        }
+    }
+
+    @Test
+    public void read_shouldReportMissingValues() throws IOException {
+        EmployeeBatch batch = read(EMPLOYEES);
+
+        Assert.assertEquals(batch.dependants(1), EmployeeBatch.MISSING_INT);
+        Assert.assertEquals(batch.salary(1), EmployeeBatch.MISSING_INT);
+        Assert.assertTrue(Double.isNaN(batch.gross(1)));
+        Assert.assertNull(batch.firstName(1));
+        Assert.assertNull(batch.expiration(1));
+        Assert.assertNull(batch.id(4));
+        Assert.assertEquals(batch.indexOf("00000000-0000-0000-0000-000000000000"), -1);
+        Assert.assertEquals(batch.indexOf(null), -1);
+    }
+
+    @Test
+    public void read_shouldSkipStructuredValuesOfKnownFields() throws IOException {
+        String json = """
+                [
+                  {"id":"3fa85f64-5717-4562-b3fc-2c963f66afa6","firstName":{"nested":{"firstName":"Wrong"}},
+                   "salary":[1,[2,3],{"salary":4}],"expiration":{"at":"2030-01-01T00:00:00Z"},"lastName":"Parker",
+                   "dependants":3},
+                  {"id":"c0ffee00-0000-4000-8000-000000000001","firstName":"Mary","lastName":"Jane","salary":40000}
+                ]
+                """;
+
+        EmployeeBatch batch = read(json);
+
+        Assert.assertEquals(batch.size(), 2, "Nested values must not start or end rows");
+        Assert.assertNull(batch.firstName(0));
+        Assert.assertEquals(batch.salary(0), EmployeeBatch.MISSING_INT);
+        Assert.assertNull(batch.expiration(0));
+        Assert.assertEquals(batch.lastName(0), "Parker");
+        Assert.assertEquals(batch.dependants(0), 3);
+        Assert.assertEquals(batch.id(1), "c0ffee00-0000-4000-8000-000000000001");
+        Assert.assertEquals(batch.firstName(1), "Mary");
+        Assert.assertEquals(batch.salary(1), 40000);
+    }
+
+    @Test
+    public void read_shouldRejectNonArrayBody() {
+        Assert.assertThrows(IOException.class, () -> read("{\"id\":\"x\"}"));
+    }
+
+    private static EmployeeBatch read(String json) throws IOException {
+        return EmployeeBatch.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertSameEmployee(EmployeeResponse actual, EmployeeResponse expected, String row) {
+        Assert.assertEquals(actual.getPartitionKey(), expected.getPartitionKey(), "partitionKey of " + row);
+        Assert.assertEquals(actual.getSortKey(), expected.getSortKey(), "sortKey of " + row);
+        Assert.assertEquals(actual.getUsername(), expected.getUsername(), "username of " + row);
+        Assert.assertEquals(actual.getId(), expected.getId(), "id of " + row);
+        Assert.assertEquals(actual.getFirstName(), expected.getFirstName(), "firstName of " + row);
+        Assert.assertEquals(actual.getLastName(), expected.getLastName(), "lastName of " + row);
+        Assert.assertEquals(actual.getDependants(), expected.getDependants(), "dependants of " + row);
+        Assert.assertEquals(actual.getExpiration(), expected.getExpiration(), "expiration of " + row);
+        Assert.assertEquals(actual.getSalary(), expected.getSalary(), "salary of " + row);
+        Assert.assertEquals(actual.getGross(), expected.getGross(), "gross of " + row);
+        Assert.assertEquals(actual.getBenefitsCost(), expected.getBenefitsCost(), "benefitsCost of " + row);
+        Assert.assertEquals(actual.getNet(), expected.getNet(), "net of " + row);
+    }
+}
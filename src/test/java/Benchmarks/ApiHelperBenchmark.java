@@ -0,0 +1,153 @@
+package Benchmarks;
+
+import API.core.ApiHelper;
+import Common.LogHelper;
+import UI.core.ConfigManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of ApiHelper against an in-process HTTP stub.
+ * {@code legacyGet} rebuilds the spec and HTTP client on every call and logs through a copy of the
+ * original synchronous LogHelper, the way ApiHelper did before the shared base spec, pooled
+ * connection manager and log writer; {@code pooledGet} goes through ApiHelper.
+ * The {@code logging*} variants fork with different log settings to isolate LogHelper's cost,
+ * and the {@code *SpecOnly} ones measure request spec construction without sending anything.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiHelperBenchmark {
+
+    private static final String BODY = Fixtures.employeesJson(1);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String base;
+    private RequestSpecification prebuiltSpec;
+
+    @Setup(Level.Trial)
+    public void startStub() throws Exception {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/Employees", exchange -> {
+            byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+        System.setProperty("API_BASE_URL", base);
+        prebuiltSpec = new RequestSpecBuilder()
+                .setBaseUri(base)
+                .setRelaxedHTTPSValidation()
+                .addHeader("Authorization", ConfigManager.getProperty("AUTH_CODE"))
+                .setAccept(ContentType.JSON)
+                .setContentType(ContentType.JSON)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStub() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public RequestSpecification legacySpecOnly() {
+        return RestAssured.given()
+                .baseUri(base)
+                .relaxedHTTPSValidation()
+                .header("Authorization", ConfigManager.getProperty("AUTH_CODE"))
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON);
+    }
+
+    @Benchmark
+    public RequestSpecification prebuiltSpecOnly() {
+        return RestAssured.given().spec(prebuiltSpec);
+    }
+
+    @Benchmark
+    public Response legacyGet() {
+        LegacyLog.info("GET " + base + "/api/Employees");
+        Response resp = RestAssured.given()
+                .baseUri(base)
+                .relaxedHTTPSValidation()
+                .header("Authorization", ConfigManager.getProperty("AUTH_CODE"))
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .get("/api/Employees");
+        LegacyLog.info("Status: " + resp.statusCode());
+        LegacyLog.prettyJson(resp.asString());
+        return resp;
+    }
+
+    @Benchmark
+    public Response pooledGet() {
+        return ApiHelper.get("/api/Employees");
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+    public Response loggingOff() {
+        return ApiHelper.get("/api/Employees");
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-DLOG_ASYNC=false")
+    public Response loggingSync() {
+        return ApiHelper.get("/api/Employees");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Response pooledGetConcurrent() {
+        return ApiHelper.get("/api/Employees");
+    }
+
+    /**
+     * Copy of LogHelper's logging before the async writer, body truncation and level checks, so
+     * {@code legacyGet} keeps measuring the original path.
+     */
+    private static final class LegacyLog {
+        private static final Logger log = LoggerFactory.getLogger(LogHelper.class);
+        private static final ObjectMapper mapper = new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT);
+
+        static void info(String message) {
+            log.info(message);
+        }
+
+        static void prettyJson(String jsonString) {
+            try {
+                Object json = mapper.readValue(jsonString, Object.class);
+                log.info("\n{}", mapper.writeValueAsString(json));
+            } catch (Exception e) {
+                log.error("Invalid JSON string", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package Benchmarks;
+
+import API.factories.EmployeeDataFactory;
+import API.factories.FastEmployeeDataFactory;
+import API.models.employees.EmployeeCreateRequest;
+import Common.LogHelper;
+import UI.core.ConfigManager;
+import com.github.javafaker.Faker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Faker-backed {@link EmployeeDataFactory} against the pooled {@link FastEmployeeDataFactory},
+ * single-threaded and with 4 threads (one Faker per thread), plus the seeded per-thread generator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class EmployeeDataFactoryBenchmark {
+
+    @Benchmark
+    public EmployeeCreateRequest createDefault() {
+        return EmployeeDataFactory.createDefault();
+    }
+
+    /**
+     * The Faker path of {@link EmployeeDataFactory#createDefault()} with one Faker per thread, since
+     * the factory's shared instance is not thread-safe.
+     */
+    @Benchmark
+    @Threads(4)
+    public EmployeeCreateRequest createDefaultConcurrent(FakerState state) {
+        Faker faker = state.faker;
+        EmployeeCreateRequest body = new EmployeeCreateRequest(ConfigManager.user(),
+                faker.name().firstName(), faker.name().lastName(),
+                faker.number().numberBetween(0, 5), faker.number().numberBetween(30000, 150000));
+        LogHelper.pretty(body);
+        return body;
+    }
+
+    @Benchmark
+    public EmployeeCreateRequest fastCreateDefault() {
+        return FastEmployeeDataFactory.createDefault();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public EmployeeCreateRequest fastCreateDefaultConcurrent() {
+        return FastEmployeeDataFactory.createDefault();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public EmployeeCreateRequest seededGenerator(GeneratorState state) {
+        return state.generator.next();
+    }
+
+    @State(Scope.Thread)
+    public static class FakerState {
+        Faker faker;
+
+        @Setup(Level.Trial)
+        public void create() {
+            faker = new Faker(new Locale("en-US"));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class GeneratorState {
+        private static final FastEmployeeDataFactory.Generator ROOT = new FastEmployeeDataFactory.Generator(42);
+        FastEmployeeDataFactory.Generator generator;
+
+        @Setup(Level.Trial)
+        public void split() {
+            synchronized (ROOT) {
+                generator = ROOT.split();
+            }
+        }
+    }
+}
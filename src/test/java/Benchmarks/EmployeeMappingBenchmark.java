@@ -0,0 +1,56 @@
+package Benchmarks;
+
+import API.responses.employees.EmployeeBatch;
+import API.responses.employees.EmployeeResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a GET /api/Employees body the way EmployeeService used to (a new TypeReference and
+ * ObjectMapper lookup per call) versus the cached ObjectReader it uses now, and versus decoding
+ * into the columnar EmployeeBatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeMappingBenchmark {
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private final ObjectReader listReader = mapper.readerFor(new TypeReference<List<EmployeeResponse>>() {
+    });
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void buildBody() {
+        body = Fixtures.employeesJson(rows).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> typeReferencePerCall() throws Exception {
+        return mapper.readValue(body, new TypeReference<List<EmployeeResponse>>() {
+        });
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> cachedReader() throws Exception {
+        return listReader.readValue(body);
+    }
+
+    @Benchmark
+    public EmployeeBatch columnarBatch() throws Exception {
+        return EmployeeBatch.read(new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,27 @@
+package Benchmarks;
+
+final class Fixtures {
+
+    private Fixtures() {}
+
+    static String employeeJson(int i) {
+        return "{\"partitionKey\":\"TestUser810\",\"sortKey\":\"" + id(i) + "\",\"username\":\"TestUser810\","
+                + "\"id\":\"" + id(i) + "\",\"firstName\":\"Peter" + i + "\",\"lastName\":\"Parker\","
+                + "\"dependants\":" + (i % 5) + ",\"expiration\":\"2030-01-01T00:00:00+00:00\","
+                + "\"salary\":52000,\"gross\":2000,\"benefitsCost\":" + (1000 + 500 * (i % 5)) / 26.0
+                + ",\"net\":" + (2000 - (1000 + 500 * (i % 5)) / 26.0) + "}";
+    }
+
+    static String employeesJson(int rows) {
+        StringBuilder sb = new StringBuilder(rows * 320).append('[');
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(employeeJson(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static String id(int i) {
+        return String.format("00000000-0000-0000-0000-%012d", i);
+    }
+}
@@ -0,0 +1,52 @@
+package Benchmarks;
+
+import API.factories.EmployeeDataFactory;
+import API.models.employees.EmployeeCreateRequest;
+import Common.LogHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of LogHelper body logging on the calling thread. Output goes to target/jmh-log.txt;
+ * the default run uses the synchronous writer, so formatting and I/O are included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-DLOG_ASYNC=false", "-Dorg.slf4j.simpleLogger.logFile=target/jmh-log.txt"})
+public class LogHelperBenchmark {
+
+    private EmployeeCreateRequest request;
+    private String responseJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        request = EmployeeDataFactory.create("Peter", "Parker", 2, 52000);
+        responseJson = Fixtures.employeesJson(20);
+    }
+
+    @Benchmark
+    public void pretty() {
+        LogHelper.pretty(request);
+    }
+
+    @Benchmark
+    public void prettyJson() {
+        LogHelper.prettyJson(responseJson);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+    public void prettyJsonDisabled() {
+        LogHelper.prettyJson(responseJson);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-DLOG_ASYNC=true", "-Dorg.slf4j.simpleLogger.logFile=target/jmh-log.txt"})
+    public void prettyJsonAsync() {
+        LogHelper.prettyJson(responseJson);
+    }
+}
@@ -0,0 +1,111 @@
+package Common;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+public class MoneyTest {
+
+    @DataProvider
+    public Object[][] amounts() {
+        return new Object[][]{
+                {"1,923.08", 192308L},
+                {"$1,923.08", 192308L},
+                {" 76.92 ", 7692L},
+                {"-57.69", -5769L},
+                {"+57.69", 5769L},
+                {"-$2,000", -200000L},
+                {"0.5", 50L},
+                {".07", 7L},
+                {"12.", 1200L},
+                {"38.4615", 3846L},
+                {"38.465", 3847L},
+                {"-38.465", -3847L},
+        };
+    }
+
+    @Test(dataProvider = "amounts")
+    public void parseCents_shouldReadTableText(String text, long cents) {
+        Assert.assertEquals(Money.parseCents(text), cents, "Cents of '" + text + "'");
+    }
+
+    @Test
+    public void parse_shouldReturnNullForBlankText() {
+        Assert.assertNull(Money.parse(null));
+        Assert.assertNull(Money.parse("  "));
+    }
+
+    @Test
+    public void parse_shouldRejectNonAmounts() {
+        for (String text : new String[]{"abc", "$", "-", "1.2.3", "12a", "1,9x3.08"}) {
+            Assert.assertThrows(NumberFormatException.class, () -> Money.parse(text));
+        }
+    }
+
+    @Test
+    public void of_shouldRoundNearTiesLikeBigDecimal() {
+        double[] amounts = {1.005, 2.675, -1.005, 0.125, -0.125, 64619.594999999994, 610063.5349999979, 1923.0769230769231};
+        for (double amount : amounts) {
+            Assert.assertEquals(Money.of(amount).cents(), bigDecimalCents(amount), "Cents of " + amount);
+        }
+    }
+
+    @Test
+    public void of_shouldMatchBigDecimalForRandomAmounts() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            // Three decimals put about one in ten amounts on a tie; the neighbours sit just beside it
+            double tie = (random.nextInt(200_000_000) - 100_000_000) / 1000.0;
+            for (double amount : new double[]{tie, Math.nextUp(tie), Math.nextDown(tie), random.nextDouble() * 1e7}) {
+                Assert.assertEquals(Money.of(amount).cents(), bigDecimalCents(amount), "Cents of " + amount);
+            }
+        }
+    }
+
+    @Test
+    public void of_shouldRejectNonFiniteAmounts() {
+        Assert.assertThrows(ArithmeticException.class, () -> Money.of(Double.NaN));
+        Assert.assertThrows(ArithmeticException.class, () -> Money.of(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void arithmetic_shouldKeepSignOfNegativeAmounts() {
+        Money debit = Money.parse("-57.69");
+
+        Assert.assertTrue(debit.isNegative());
+        Assert.assertEquals(debit.toString(), "-57.69");
+        Assert.assertEquals(Money.parse("-0.05").toString(), "-0.05");
+        Assert.assertEquals(Money.parse("1500.00").plus(debit), Money.parse("1442.31"));
+        Assert.assertEquals(Money.ZERO.minus(Money.parse("0.01")).cents(), -1L);
+        Assert.assertEquals(debit.times(26), Money.parse("-1499.94"));
+        Assert.assertEquals(debit.toBigDecimal(), new BigDecimal("-57.69"));
+    }
+
+    @Test
+    public void dividedBy_shouldRoundHalfUpAwayFromZero() {
+        Assert.assertEquals(Money.parse("2000.00").dividedBy(26), Money.parse("76.92"));
+        Assert.assertEquals(Money.parse("1500.00").dividedBy(26), Money.parse("57.69"));
+        Assert.assertEquals(Money.ofCents(5).dividedBy(2).cents(), 3L);
+        Assert.assertEquals(Money.ofCents(-5).dividedBy(2).cents(), -3L);
+        Assert.assertEquals(Money.ofCents(5).dividedBy(-2).cents(), -3L);
+        Assert.assertEquals(Money.ofCents(-5).dividedBy(-2).cents(), 3L);
+        Assert.assertEquals(Money.ofCents(7).dividedBy(3).cents(), 2L);
+        Assert.assertEquals(Money.ofCents(-7).dividedBy(3).cents(), -2L);
+    }
+
+    @Test
+    public void dividedBy_shouldInvertTimesForPaycheckFigures() {
+        for (long cents = -10_000; cents <= 10_000; cents++) {
+            Money perPaycheck = Money.ofCents(cents);
+            Assert.assertEquals(perPaycheck.times(26).dividedBy(26), perPaycheck);
+        }
+    }
+
+    private static long bigDecimalCents(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
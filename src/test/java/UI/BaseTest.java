@@ -4,8 +4,10 @@ import UI.core.BrowserType;
 import UI.core.ConfigManager;
 import UI.core.DriverManager;
 import UI.core.DriverOptions;
+import UI.pages.BenefitsDashboardPage;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
@@ -14,6 +16,16 @@ public class BaseTest {
     protected String user;
     protected String password;
 
+    @BeforeSuite(alwaysRun = true)
+    @Parameters({"browser", "headless", "remote", "gridUrl"})
+    public void prewarmBrowsers(@Optional("CHROME") String browser,
+                                @Optional("false") String headless,
+                                @Optional("false") String remote,
+                                @Optional("") String gridUrl) {
+        DriverManager.prewarm(driverOptions(browser, headless, remote, gridUrl),
+                ConfigManager.getInt("DRIVER_PREWARM_COUNT", 0));
+    }
+
     @BeforeMethod
     @Parameters({"browser", "headless", "remote", "gridUrl"})
     public void setUp(@Optional("CHROME") String browser,
@@ -21,22 +33,33 @@ public class BaseTest {
                       @Optional("false") String remote,
                       @Optional("") String gridUrl) {
 
-        BrowserType bt = parseBrowser(browser);
-        boolean isHeadless = Boolean.parseBoolean(headless);
-        boolean isRemote   = Boolean.parseBoolean(remote);
-        String grid        = (gridUrl == null || gridUrl.isBlank()) ? null : gridUrl;
-
-        DriverManager.start(new DriverOptions(bt, isHeadless, isRemote, grid));
+        DriverManager.start(driverOptions(browser, headless, remote, gridUrl));
         url = ConfigManager.baseUrl();
         user = ConfigManager.user();
         password = ConfigManager.password();
     }
 
+    /**
+     * Logged-in dashboard; skips the login form once a session is cached (see UI_FAST_LOGIN).
+     * Tests of the login page itself should drive LoginPage directly.
+     */
+    protected BenefitsDashboardPage openDashboard() {
+        return BenefitsDashboardPage.open(url, user, password);
+    }
+
     @AfterMethod
     public void tearDown(){
         DriverManager.stop();
     }
 
+    private DriverOptions driverOptions(String browser, String headless, String remote, String gridUrl) {
+        BrowserType bt = parseBrowser(browser);
+        boolean isHeadless = Boolean.parseBoolean(headless);
+        boolean isRemote   = Boolean.parseBoolean(remote);
+        String grid        = (gridUrl == null || gridUrl.isBlank()) ? null : gridUrl;
+        return new DriverOptions(bt, isHeadless, isRemote, grid);
+    }
+
     private BrowserType parseBrowser(String b) {
         if (b == null) return BrowserType.CHROME;
         try { return BrowserType.valueOf(b.trim().toUpperCase()); }
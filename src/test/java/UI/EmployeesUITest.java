@@ -1,52 +1,53 @@
 package UI;
 
+import API.services.EmployeeNamespace;
 import API.services.EmployeeService;
 import Common.LogHelper;
+import Common.Money;
 import UI.components.DeleteConfirmationComponent;
 import UI.components.EmployeeFormComponent;
 import UI.pages.BenefitsDashboardPage;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
-import UI.pages.LoginPage;
-
-import java.math.BigDecimal;
 
 public class EmployeesUITest extends BaseTest {
 
     @DataProvider(name = "dependentsCases")
     public Object[][] dependentsCases() {
         return new Object[][]{
-                {"Tony", "Stark", 0, new BigDecimal("1000.00")},
-                {"Peter", "Parker", 1, new BigDecimal("1500.00")},
-                {"Bruce", "Banner", 2, new BigDecimal("2000.00")}
+                {"Tony", "Stark", 0, Money.parse("1000.00")},
+                {"Peter", "Parker", 1, Money.parse("1500.00")},
+                {"Bruce", "Banner", 2, Money.parse("2000.00")}
         };
     }
 
-    @BeforeMethod
+    @BeforeClass
     public void initialCleanUp() {
-        EmployeeService.deleteAll();
+        EmployeeService.deleteAllOnce();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteCreated() {
+        EmployeeService.deleteScoped();
     }
 
     @Test(dataProvider = "dependentsCases", testName = "AT-01/AT-02 Add employee with dependents check annual net")
-    public void annualNet_shouldMatchSalaryMinusBenefits(String first, String last, int dependents, BigDecimal expectedAnnualBenefits) {
-        final BigDecimal ANNUAL_SALARY = new BigDecimal("52000.00");
-        final BigDecimal EXPECTED_ANNUAL_NET = ANNUAL_SALARY.subtract(expectedAnnualBenefits);
-
-        BenefitsDashboardPage benefitsDashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+    public void annualNet_shouldMatchSalaryMinusBenefits(String first, String last, int dependents, Money expectedAnnualBenefits) {
+        final Money ANNUAL_SALARY = Money.parse("52000.00");
+        final Money EXPECTED_ANNUAL_NET = ANNUAL_SALARY.minus(expectedAnnualBenefits);
+        last = EmployeeNamespace.lastName(last);
+
+        BenefitsDashboardPage benefitsDashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, String.valueOf(dependents));
 
         benefitsDashboardPage.employeesTable.waitUntilRowPresent(first, last);
 
-        BigDecimal uiNetPerPeriod = benefitsDashboardPage.employeesTable.getNetPay(first, last);
-        BigDecimal uiAnnualNet = uiNetPerPeriod.multiply(new BigDecimal("26"))
-                .setScale(2, java.math.RoundingMode.HALF_UP);
+        Money uiNetPerPeriod = benefitsDashboardPage.employeesTable.getNetPay(first, last);
+        Money uiAnnualNet = uiNetPerPeriod.times(26);
 
         LogHelper.info("UI annual net: " + uiAnnualNet + " vs expected: " + EXPECTED_ANNUAL_NET
                 + " (dependents=" + dependents + ", annual benefits=" + expectedAnnualBenefits + ")");
@@ -57,11 +58,7 @@ public class EmployeesUITest extends BaseTest {
 
     @Test(testName = "AT-03 Create an employee with first name empty")
     public void emptyFirstName_shouldShowValidationError() {
-        BenefitsDashboardPage dashboard = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin();
+        BenefitsDashboardPage dashboard = openDashboard();
 
         EmployeeFormComponent form = dashboard
                 .clickAddEmployee()
@@ -78,14 +75,10 @@ public class EmployeesUITest extends BaseTest {
     @Test (testName = "AT-04 Crate an employee with 32 dependents")
     public void maxDependentsAccepted_32() {
         final String first = "Max";
-        final String last = "Deps32";
+        final String last = EmployeeNamespace.lastName("Deps32");
         final int dependents = 32;
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, String.valueOf(dependents));
 
@@ -101,14 +94,10 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-05 Add employee with duplicated name")
     public void duplicateEmployee_sameFirstAndLast_shouldShowError() {
         final String first = "Steve";
-        final String last = "Rogers";
+        final String last = EmployeeNamespace.lastName("Rogers");
         final int dependents = 1;
 
-        BenefitsDashboardPage dashboard = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin();
+        BenefitsDashboardPage dashboard = openDashboard();
 
         dashboard
                 .clickAddEmployee()
@@ -134,11 +123,7 @@ public class EmployeesUITest extends BaseTest {
         final String first = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
         final String last = "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb";
 
-        BenefitsDashboardPage dashboard = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin();
+        BenefitsDashboardPage dashboard = openDashboard();
 
         EmployeeFormComponent form = dashboard
                 .clickAddEmployee()
@@ -161,11 +146,7 @@ public class EmployeesUITest extends BaseTest {
         final String lastRaw = "T\\tStark";
         final String deps = "1";
 
-        BenefitsDashboardPage dashboard = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin();
+        BenefitsDashboardPage dashboard = openDashboard();
 
         UI.components.EmployeeFormComponent form = dashboard
                 .clickAddEmployee()
@@ -185,14 +166,10 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-08 Add employee with quotes and special punctuation")
     public void quotes_and_punctuation_should_display_correctly() {
         final String first = "O’Conner";
-        final String last = "Bryan \"The Family first\"";
+        final String last = EmployeeNamespace.lastName("Bryan \"The Family first\"");
         final String deps = "0";
 
-        BenefitsDashboardPage dashboard = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboard = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, String.valueOf(deps));
 
@@ -212,11 +189,7 @@ public class EmployeesUITest extends BaseTest {
 
     @Test(testName = "AT-09 Save button is enabled when fields are empty")
     public void addButton_shouldRemainDisabled_withInvalidData() {
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee("", "", "");
 
@@ -229,14 +202,10 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-10 Add employee with no numeric characters")
     public void dependents_shouldRejectNonNumeric() {
         final String first = "Peter";
-        final String last = "Parker";
+        final String last = EmployeeNamespace.lastName("Parker");
         final String deps = "22z1";
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, deps);
 
@@ -252,14 +221,10 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-11 First and last name swapped in the employee table")
     public void fieldMapping_shouldDisplayCorrectly() {
         final String first = "Natasha";
-        final String last = "Romanoff";
+        final String last = EmployeeNamespace.lastName("Romanoff");
         final String deps = "0";
 
-        BenefitsDashboardPage dashboard = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboard = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, deps);
 
@@ -277,13 +242,9 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-12 Updates to employees should have confirmation")
     public void update_shouldShowConfirmationDialog() {
         final String first = "Steven";
-        final String last = "Strange";
+        final String last = EmployeeNamespace.lastName("Strange");
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, "1");
 
@@ -293,7 +254,7 @@ public class EmployeesUITest extends BaseTest {
 
 
         dashboardPage.employeeForm.typeFirstName("StevenUpdated")
-                .typeLastName("StrangeUpdated");
+                .typeLastName(EmployeeNamespace.lastName("StrangeUpdated"));
 
         LogHelper.info("Clicking Update to save edited employee...");
         dashboardPage.employeeForm.clickUpdate();
@@ -307,14 +268,10 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-13 Add employee with more 32 dependents should display error message")
     public void dependentsGreaterThan32_shouldShowRangeError() {
         final String first = "Steve";
-        final String last = "Rogers";
+        final String last = EmployeeNamespace.lastName("Rogers");
         final int deps = 33;
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, String.valueOf(deps));
 
@@ -331,24 +288,20 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-14 Edit an employee's name and the benefit cost calculations not change")
     public void editEmployeeName_shouldUpdateNameAndKeepIdAndCalcs() {
         final String firstInit = "Wanda";
-        final String lastInit = "Maximoff";
+        final String lastInit = EmployeeNamespace.lastName("Maximoff");
         final String deps = "1";
         final String firstUpdated = "Natasha";
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(firstInit, lastInit, deps);
 
         dashboardPage.employeesTable.waitUntilRowPresent(firstInit, lastInit);
 
         String idBefore = dashboardPage.employeesTable.getId(firstInit, lastInit);
-        BigDecimal grossBefore = dashboardPage.employeesTable.getGrossPay(firstInit, lastInit);
-        BigDecimal benefitsBefore = dashboardPage.employeesTable.getBenefitsCost(firstInit, lastInit);
-        BigDecimal netBefore = dashboardPage.employeesTable.getNetPay(firstInit, lastInit);
+        Money grossBefore = dashboardPage.employeesTable.getGrossPay(firstInit, lastInit);
+        Money benefitsBefore = dashboardPage.employeesTable.getBenefitsCost(firstInit, lastInit);
+        Money netBefore = dashboardPage.employeesTable.getNetPay(firstInit, lastInit);
 
         LogHelper.info("Before update -> ID=" + idBefore + ", gross=" + grossBefore
                 + ", benefits=" + benefitsBefore + ", net=" + netBefore);
@@ -363,9 +316,9 @@ public class EmployeesUITest extends BaseTest {
         dashboardPage.employeesTable.waitUntilRowPresent(firstUpdated, lastInit);
 
         String idAfter = dashboardPage.employeesTable.getId(firstUpdated, lastInit);
-        BigDecimal grossAfter = dashboardPage.employeesTable.getGrossPay(firstUpdated, lastInit);
-        BigDecimal benefitsAfter = dashboardPage.employeesTable.getBenefitsCost(firstUpdated, lastInit);
-        BigDecimal netAfter = dashboardPage.employeesTable.getNetPay(firstUpdated, lastInit);
+        Money grossAfter = dashboardPage.employeesTable.getGrossPay(firstUpdated, lastInit);
+        Money benefitsAfter = dashboardPage.employeesTable.getBenefitsCost(firstUpdated, lastInit);
+        Money netAfter = dashboardPage.employeesTable.getNetPay(firstUpdated, lastInit);
 
         String uiFirst = dashboardPage.employeesTable.getFirstNameText(firstUpdated, lastInit);
         String uiLast = dashboardPage.employeesTable.getLastNameText(firstUpdated, lastInit);
@@ -386,13 +339,9 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-15 Delete an employee")
     public void deleteEmployee_shouldDisappearAndNotReappear() {
         final String first = "Peter";
-        final String last = "Parker";
+        final String last = EmployeeNamespace.lastName("Parker");
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, "0");
 
@@ -419,13 +368,9 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-16 Validate second delete on the same employee")
     public void secondDelete_shouldNotBePossible() {
         final String first = "Peter";
-        final String last = "Parker";
+        final String last = EmployeeNamespace.lastName("Parker");
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, "0");
 
@@ -448,20 +393,16 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-17 Edit the number of dependents and recalculates benefits cost")
     public void editDependents_shouldIncreaseBenefits_andDecreaseNet() {
         final String first = "Peter";
-        final String last = "Parker";
+        final String last = EmployeeNamespace.lastName("Parker");
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, "0");
 
         dashboardPage.employeesTable.waitUntilRowPresent(first, last);
 
-        BigDecimal benefitsBefore = dashboardPage.employeesTable.getBenefitsCost(first, last);
-        BigDecimal netBefore = dashboardPage.employeesTable.getNetPay(first, last);
+        Money benefitsBefore = dashboardPage.employeesTable.getBenefitsCost(first, last);
+        Money netBefore = dashboardPage.employeesTable.getNetPay(first, last);
         int depsBefore = dashboardPage.employeesTable.getDependents(first, last);
 
         LogHelper.info("Before update -> deps=" + depsBefore
@@ -475,8 +416,8 @@ public class EmployeesUITest extends BaseTest {
 
         dashboardPage.employeesTable.waitUntilRowPresent(first, last);
 
-        BigDecimal benefitsAfter = dashboardPage.employeesTable.getBenefitsCost(first, last);
-        BigDecimal netAfter = dashboardPage.employeesTable.getNetPay(first, last);
+        Money benefitsAfter = dashboardPage.employeesTable.getBenefitsCost(first, last);
+        Money netAfter = dashboardPage.employeesTable.getNetPay(first, last);
         int depsAfter = dashboardPage.employeesTable.getDependents(first, last);
 
         LogHelper.info("After update  -> deps=" + depsAfter
@@ -492,13 +433,9 @@ public class EmployeesUITest extends BaseTest {
     @Test(testName = "AT-18 Add employee with empty dependents should display a error message")
     public void emptyDependents_shouldShowRequiredError_andNotInsert() {
         final String first = "Natasha";
-        final String last = "Romanoff";
+        final String last = EmployeeNamespace.lastName("Romanoff");
 
-        BenefitsDashboardPage dashboardPage = new LoginPage()
-                .open(url)
-                .typeUsername(user)
-                .typePassword(password)
-                .clickLogin()
+        BenefitsDashboardPage dashboardPage = openDashboard()
                 .clickAddEmployee()
                 .addEmployee(first, last, "");
 
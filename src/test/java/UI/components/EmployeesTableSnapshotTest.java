@@ -0,0 +1,94 @@
+package UI.components;
+
+import Common.Money;
+import UI.core.EmployeeTableColumn;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class EmployeesTableSnapshotTest {
+
+    private static final String PETER_ID = "3fa85f64-5717-4562-b3fc-2c963f66afa6";
+    private static final String MARY_ID = "c0ffee00-0000-4000-8000-000000000001";
+
+    // Columns as the read script returns them: id, last, first, dependents, salary, gross, benefits, net, actions, delete flag
+    private static final List<List<Object>> ROWS = List.of(
+            List.of(PETER_ID, "Parker", "Peter", "2", "52,000.00", "2,000.00", "76.92", "1,923.08", "", "true"),
+            // Mary's names come back swapped between the columns, the known UI bug
+            List.of(MARY_ID, "Mary", "Jane", "0", "40,000.00", "1,538.46", "38.46", "1,500.00", "", "false"),
+            List.of(PETER_ID, "Duplicate", "Row", "1", "1.00", "1.00", "1.00", "1.00", "", "true"),
+            List.of("short-row", "Short", "false"));
+
+    @Test
+    public void of_shouldReadEveryRow() {
+        EmployeesTableSnapshot snapshot = EmployeesTableSnapshot.of(ROWS);
+
+        Assert.assertEquals(snapshot.size(), 4);
+        Assert.assertEquals(snapshot.rows().get(1).id(), MARY_ID);
+    }
+
+    @Test
+    public void byId_shouldReturnTheFirstRowWithThatId() {
+        EmployeesTableSnapshot snapshot = EmployeesTableSnapshot.of(ROWS);
+
+        EmployeesTableSnapshot.Row peter = snapshot.byId(PETER_ID);
+
+        Assert.assertNotNull(peter);
+        Assert.assertEquals(peter.lastName(), "Parker");
+        Assert.assertEquals(peter.firstName(), "Peter");
+        Assert.assertEquals(peter.dependents(), 2);
+        Assert.assertEquals(peter.salary(), Money.parse("52000"));
+        Assert.assertEquals(peter.grossPay(), Money.parse("2000"));
+        Assert.assertEquals(peter.benefitsCost(), Money.parse("76.92"));
+        Assert.assertEquals(peter.netPay(), Money.parse("1923.08"));
+        Assert.assertNull(snapshot.byId("00000000-0000-0000-0000-000000000000"));
+    }
+
+    @Test
+    public void byName_shouldMatchNamesInEitherColumn() {
+        EmployeesTableSnapshot snapshot = EmployeesTableSnapshot.of(ROWS);
+
+        Assert.assertEquals(snapshot.byName("Peter", "Parker").id(), PETER_ID);
+        Assert.assertEquals(snapshot.byName("Parker", "Peter").id(), PETER_ID);
+        Assert.assertEquals(snapshot.byName("Mary", "Jane").id(), MARY_ID);
+        Assert.assertEquals(snapshot.byName("Jane", "Mary").id(), MARY_ID);
+        Assert.assertEquals(snapshot.byName("  Peter ", "Parker  ").id(), PETER_ID, "Names are whitespace-normalized");
+        Assert.assertNull(snapshot.byName("Peter", "Jane"));
+    }
+
+    @Test
+    public void byName_shouldNormalizeUnicodeSpacesLikeTheReadScript() {
+        EmployeesTableSnapshot snapshot = EmployeesTableSnapshot.of(List.of(
+                List.of(PETER_ID, "Van Buren", "Mary Ann", "0", "1.00", "1.00", "1.00", "1.00", "", "false")));
+
+        Assert.assertEquals(snapshot.byName("Mary\u00A0Ann", "Van\u2009 Buren\u3000").id(), PETER_ID);
+        Assert.assertEquals(snapshot.byName("\uFEFFMary Ann", "Van\u202FBuren").id(), PETER_ID);
+    }
+
+    @Test
+    public void of_shouldPadShortRows() {
+        EmployeesTableSnapshot.Row row = EmployeesTableSnapshot.of(ROWS).byId("short-row");
+
+        Assert.assertNotNull(row);
+        Assert.assertEquals(row.lastName(), "Short");
+        Assert.assertEquals(row.firstName(), "");
+        Assert.assertEquals(row.text(EmployeeTableColumn.NET_PAY), "");
+        Assert.assertNull(row.salary(), "A missing amount reads as null");
+        Assert.assertFalse(row.hasDeleteAction());
+    }
+
+    @Test
+    public void row_shouldReportTheDeleteAction() {
+        EmployeesTableSnapshot snapshot = EmployeesTableSnapshot.of(ROWS);
+
+        Assert.assertTrue(snapshot.byId(PETER_ID).hasDeleteAction());
+        Assert.assertFalse(snapshot.byId(MARY_ID).hasDeleteAction());
+    }
+
+    @Test
+    public void of_shouldTreatMissingResultAsEmptyTable() {
+        Assert.assertEquals(EmployeesTableSnapshot.of(null).size(), 0);
+        Assert.assertNull(EmployeesTableSnapshot.of(List.of()).byName("Peter", "Parker"));
+    }
+}